@@ -2,7 +2,9 @@ package hacktip.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling // [추가] 주기 작업 (게시물 카운터 보정 등)
 @SpringBootApplication
 public class DemoApplication {
 
@@ -0,0 +1,20 @@
+package hacktip.demo.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * [추가] @Scheduled 작업 전용 스케줄러
+ * STOMP 설정이 messageBrokerTaskScheduler 를 등록하면 Spring Boot 의 기본 스케줄러가 만들어지지 않으므로
+ * "taskScheduler" 이름으로 직접 등록 (spring.task.scheduling.pool.size / thread-name-prefix 적용)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
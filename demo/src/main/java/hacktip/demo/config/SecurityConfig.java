@@ -42,13 +42,17 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/signup", "/api/login", "/api/reissue", "/api/admin").permitAll()
                         .requestMatchers("/ws-stomp/**").permitAll()
+                        // [추가] 오류 응답(429/503 등)이 비로그인 요청에서 403 으로 바뀌지 않도록 오류 페이지 허용
+                        .requestMatchers("/error").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/{postId}").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/comments", "/api/posts/{postId}/comments").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/feed", "/api/posts/category/{categoryName}/feed").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/search", "/api/posts/query", "/api/posts/trending").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/comments", "/api/posts/{postId}/comments", "/api/posts/{postId}/comments/feed").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/tech-stacks/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/stats/**").permitAll()
 
                         .requestMatchers("/me").authenticated()
-                        .requestMatchers(HttpMethod.GET, "/api/users").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/page", "/api/users/by-name").authenticated()
 
                         .requestMatchers(HttpMethod.POST, "/api/posts").authenticated()
                         .requestMatchers(HttpMethod.PATCH, "/api/posts/{postId}").authenticated()
@@ -66,6 +70,13 @@ public class SecurityConfig {
                         .requestMatchers("/api/bot/chat").authenticated()
                         .requestMatchers("/api/bot/questions").authenticated()
 
+                        // [추가] 운영 지표(actuator)는 관리자만 조회
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // [추가] 분석용 데이터 내보내기도 관리자만
+                        .requestMatchers(HttpMethod.GET, "/api/admin/export/**").hasRole("ADMIN")
+                        // [추가] 데이터 일괄 가져오기도 관리자만
+                        .requestMatchers(HttpMethod.POST, "/api/admin/import").hasRole("ADMIN")
+
                         .anyRequest().authenticated()
                 )
 
@@ -0,0 +1,101 @@
+package hacktip.demo.config.jwt;
+
+import hacktip.demo.domain.RevokedAccessToken;
+import hacktip.demo.repository.RevokedAccessTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [신규] 폐기된 Access Token 목록 (jti 기준)
+ * 로그아웃한 Access Token 이 만료 전까지 계속 쓰이지 않도록 막습니다.
+ *
+ * - 확인(isRevoked)은 메모리에서만: 블룸 필터 -> (있을 수도 있으면) 정확한 목록(jti -> 만료 시각) 순서로 확인, DB 조회 없음
+ * - 폐기(revoke)는 REVOKED_ACCESS_TOKENS 에도 저장해서 서버를 다시 시작해도 유지
+ * - 항목은 토큰의 exp 가 지나면 무시되고, 주기적으로 DB/메모리에서 삭제 + 블룸 필터 재생성
+ *   (다른 서버에서 폐기한 토큰도 이때 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRevocationList {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Value("${jwt.revocation.expected-entries:10000}")
+    private int expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // jti -> 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile JtiBloomFilter filter;
+
+    @PostConstruct
+    public void init() {
+        filter = new JtiBloomFilter(expectedEntries, falsePositiveRate);
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // DB 를 읽지 못해도 서버는 기동 (다음 주기에 다시 읽음)
+            log.error("폐기된 토큰 목록을 읽지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 요청마다 호출 (메모리만 확인)
+     */
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false; // 대부분의 요청은 여기서 끝남
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃 등, DB 에 저장한 뒤 메모리에 반영)
+     * @param expiresAt 토큰의 exp (이 시각 이후에는 목록에서 제거)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return; // 이미 만료된 토큰
+        }
+        revokedAccessTokenRepository.save(new RevokedAccessToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        synchronized (this) {
+            revoked.put(jti, expiresAt.toEpochMilli());
+            filter.add(jti);
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 + DB 의 폐기 목록 반영 + 블룸 필터 재생성
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}",
+            fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedAccessTokenRepository.deleteExpired(now);
+        List<RevokedAccessToken> stored = revokedAccessTokenRepository.findAllByExpiresAtAfter(now);
+
+        long nowMillis = System.currentTimeMillis();
+        // revoke 와 같은 잠금 안에서 교체 (재생성 중에 추가된 jti 가 새 필터에서 빠지지 않도록)
+        synchronized (this) {
+            stored.forEach(token -> revoked.put(token.getJti(),
+                    token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            filter = JtiBloomFilter.of(revoked.keySet(), expectedEntries, falsePositiveRate);
+        }
+    }
+}
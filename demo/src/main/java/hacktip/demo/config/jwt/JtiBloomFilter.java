@@ -0,0 +1,86 @@
+package hacktip.demo.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [신규] 폐기된 토큰 ID(jti) 블룸 필터
+ * mightContain 이 false 면 폐기 목록에 확실히 없음 -> 대부분의 요청은 비트 몇 개만 확인하고 끝남.
+ * true 인 경우(폐기된 토큰 또는 오탐)에만 AccessTokenRevocationList 의 정확한 목록을 확인합니다.
+ *
+ * 블룸 필터는 항목을 지울 수 없으므로, 만료된 항목은 주기적으로 필터를 새로 만들어서 교체합니다.
+ */
+final class JtiBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedEntries 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (예: 0.01)
+     */
+    JtiBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 수 k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    }
+
+    static JtiBloomFilter of(Collection<String> jtis, int expectedEntries, double falsePositiveRate) {
+        JtiBloomFilter filter = new JtiBloomFilter(Math.max(expectedEntries, jtis.size() * 2), falsePositiveRate);
+        jtis.forEach(filter::add);
+        return filter;
+    }
+
+    void add(String jti) {
+        long hash1 = hash(jti);
+        long hash2 = mix(hash1) | 1; // 홀수로 만들어서 k 개의 위치가 겹치지 않게 함 (double hashing)
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String jti) {
+        long hash1 = hash(jti);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64비트 FNV-1a
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 두 번째 해시 (splitmix64 마무리 단계)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
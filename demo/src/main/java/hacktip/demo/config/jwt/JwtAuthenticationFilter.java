@@ -1,6 +1,6 @@
 package hacktip.demo.config.jwt;
 
-import hacktip.demo.security.UserDetailsServiceImpl;
+import hacktip.demo.security.UserDetailsImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,7 +22,6 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsServiceImpl userDetailsServiceImpl;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -37,20 +35,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = jwtTokenProvider.resolveToken(bearerToken);
 
-        if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)){
-
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            try {
-                UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(email);
+        if(StringUtils.hasText(token)){
 
+            // [성능 개선] 토큰을 한 번만 파싱하고, 클레임으로 사용자 정보를 만듦 (요청마다 회원 조회 안 함)
+            UserDetailsImpl userDetails = jwtTokenProvider.getUserDetails(token);
+            if (userDetails != null) {
                 Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            } catch (Exception e) {
-                log.error("Could not set user authentication in security context", e);
             }
-
-
         }
 
         filterChain.doFilter(request, response);
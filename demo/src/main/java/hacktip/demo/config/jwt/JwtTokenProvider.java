@@ -1,23 +1,40 @@
 package hacktip.demo.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import hacktip.demo.domain.Member;
+import hacktip.demo.domain.Role;
+import hacktip.demo.security.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 //jwt를 생성, 검증, 정보추출 하는 전용 클래스
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // [신규] Access Token 에 담는 회원 정보 클레임 이름 (요청마다 DB 조회 없이 인증 객체를 만들기 위함)
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String NAME_CLAIM = "name";
+    private static final String AUTH_CLAIM = "auth";
+
     //application.properties 에서 설정한 비밀 키를 주입받는다.
     @Value("${jwt.secret-key}")
     private String secretKeyString;
@@ -30,9 +47,28 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    // [신규] 검증된 토큰 캐시 최대 개수 (동시에 사용 중인 토큰 수보다 크게)
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
+    private final MeterRegistry meterRegistry;
+    private final AccessTokenRevocationList revocationList;
+
     // HMAC-SHA 알고리즘을 위한 SecretKey 객체. (String이 아님)
     private SecretKey secretKey;
 
+    // [성능 개선] 서명 검증용 파서 (스레드 안전하므로 init()에서 한 번만 생성해서 재사용)
+    private JwtParser jwtParser;
+
+    /**
+     * [성능 개선] 검증된 토큰 캐시 (토큰의 SHA-256 -> Claims)
+     * 같은 토큰이 만료될 때까지 계속 전송되므로, 처음 한 번만 서명 검증 + JSON 파싱을 하고 이후에는 캐시에서 꺼냄
+     * - 원본 토큰 대신 해시를 키로 저장 (메모리에 토큰 문자열이 남지 않음)
+     * - 항목은 토큰의 exp 시각에 만료되므로 만료된 토큰이 캐시 때문에 통과하는 일은 없음
+     * - 검증에 실패한 토큰은 저장하지 않음
+     */
+    private Cache<String, Claims> verifiedTokens;
+
     // @PostConstruct: Spring Bean이 생성된 후 (의존성 주입이 완료된 후)
     // 1회 실행되는 초기화 메서드입니다.
     @PostConstruct
@@ -41,21 +77,35 @@ public class JwtTokenProvider {
         byte[] keyBytes = Decoders.BASE64.decode(secretKeyString);
         // 2. 디코딩된 바이트 배열을 사용하여 HMAC-SHA 키 객체를 생성한다.
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        // 3. [성능 개선] 파서와 검증 캐시를 한 번만 생성
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> untilExpiration(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
         log.info("JWT secret key initialized successfully.");
     }
 
     /**
      * 로그인 성공 시 Access Token을 생성하는 메서드
-     * @param email 사용자의 이메일 (토큰의 주체(Subject)로 사용)
+     * [변경] 회원 ID/이름/역할을 클레임에 담아서, 인증 필터가 DB 조회 없이 UserDetailsImpl 을 만들 수 있게 함
+     * @param member 로그인한 회원 (이메일은 토큰의 주체(Subject)로 사용)
      * @return 생성된 JWT Access Token 문자열
      */
-    public String createAccessToken(String email, String role){
+    public String createAccessToken(Member member){
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenExpirationMs);
 
         return Jwts.builder()
-                .subject(email)// 토큰의 주체 (e.g., 사용자 이메일)
-                .claim("auth", role)  // [핵심] "auth"라는 이름으로 역할 정보 저장
+                .id(UUID.randomUUID().toString()) // [신규] 토큰 ID (jti), 로그아웃 시 이 ID로 폐기
+                .subject(member.getEmail())// 토큰의 주체 (e.g., 사용자 이메일)
+                .claim(MEMBER_ID_CLAIM, member.getMemberId())
+                .claim(NAME_CLAIM, member.getName())
+                .claim(AUTH_CLAIM, member.getRole().getKey())  // [핵심] "auth"라는 이름으로 역할 정보 저장
                 .issuedAt(now) // 토큰 발급 시간
                 .expiration(validity)// 토큰 만료 시간
                 .signWith(secretKey, Jwts.SIG.HS256)// 사용할 서명 알고리즘과 비밀 키
@@ -75,6 +125,7 @@ public class JwtTokenProvider {
         Date validity = new Date(now.getTime() + refreshTokenExpirationMs);// 3. 리프레시 토큰 만료 시간 사용
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // [신규] 같은 초에 교체(rotation)해도 이전 토큰과 값이 달라지도록
                 .subject(email) // 4. (중요) Access Token과 동일한 주체(email)를 가져야 함
                 .issuedAt(now)
                 .expiration(validity)
@@ -103,12 +154,44 @@ public class JwtTokenProvider {
      * @return 토큰이 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token){
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * [신규] Access Token 을 한 번만 파싱해서 인증 사용자 정보를 만드는 메서드 (DB 조회 없음)
+     * @param token 검증할 JWT Access Token 문자열
+     * @return 유효한 Access Token 이면 UserDetailsImpl, 아니면 null
+     *         (회원 ID 클레임이 없는 토큰 = Refresh Token 이나 이전 형식의 Access Token 은 인증에 사용할 수 없음)
+     *         ([신규] jti 가 없거나 로그아웃으로 폐기된 토큰도 null, 폐기 여부는 메모리에서만 확인)
+     */
+    public UserDetailsImpl getUserDetails(String token){
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        if (claims.getId() == null || revocationList.isRevoked(claims.getId())) {
+            log.warn("Revoked or unidentifiable JWT token.");
+            return null;
+        }
+
+        Long memberId = claims.get(MEMBER_ID_CLAIM, Long.class);
+        String role = claims.get(AUTH_CLAIM, String.class);
+        if (memberId == null || role == null) {
+            log.warn("Access token without member claims.");
+            return null;
+        }
+        try {
+            return new UserDetailsImpl(memberId, claims.getSubject(), null, Role.fromKey(role), claims.get(NAME_CLAIM, String.class));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown role in JWT token: {}", role);
+            return null;
+        }
+    }
+
+    // 서명/만료를 검증하고 Claims 반환 (유효하지 않으면 null)
+    private Claims parseClaims(String token){
         try{
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return verifiedClaims(token);
         } catch (SecurityException | MalformedJwtException e){
             log.warn("Invalid JWT signature.", e);
         } catch (ExpiredJwtException e){
@@ -120,7 +203,7 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             log.warn("Invalid JWT token.", e); // 기타 모든 예외
         }
-        return false;
+        return null;
     }
 
     /**
@@ -129,24 +212,46 @@ public class JwtTokenProvider {
      * @return 토큰의 주체(Subject)로 저장된 사용자 이메일
      */
     public String getEmailFromToken(String token){
-        // secretKey를 사용하여 토큰을 파싱하고, Claims 부분을 가져온다
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload(); // payload(Claims) 부분 가져오기
-
-        return claims.getSubject(); // Claims에서 subject(이메일) 반환
+        // 검증된 토큰의 Claims 에서 subject(이메일) 반환 (캐시에 있으면 다시 파싱하지 않음)
+        return verifiedClaims(token).getSubject();
     }
 
     // 2. 토큰에서 Role 정보 꺼내기 (검증용)
     public String getRoleFromToken(String token){
-        return Jwts.parser() //JWT를 파싱할 때 사용하는 빌더 객체를 생성합니다.
-                .verifyWith(secretKey) //JWT 서명을 검증할 비밀 키를 지정합니다.
-                .build() //위에서 설정한 검증 옵션으로 파서 객체를 완성(build) 합니다.
-                .parseSignedClaims(token) //실제로 JWT 토큰을 파싱하고 서명을 검증합니다.
-                .getPayload() //JWT에서 payload(클레임)를 꺼내는 단계입니다.
-                .get("auth", String.class); //payload 안에서 "auth"라는 특정 클레임 값을 꺼냅니다.
+        return verifiedClaims(token) //서명이 검증된 payload(클레임)를 가져옵니다.
+                .get(AUTH_CLAIM, String.class); //payload 안에서 "auth"라는 특정 클레임 값을 꺼냅니다.
+    }
+
+    /**
+     * [신규] Access Token 폐기 (로그아웃 시 호출, 만료 시각까지 인증에 사용할 수 없게 됨)
+     * 유효하지 않은 토큰이면 무시 (어차피 인증에 사용할 수 없음)
+     */
+    public void revokeAccessToken(String token){
+        Claims claims = parseClaims(token);
+        if (claims == null || claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        revocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * [신규] 캐시에 있으면 바로 반환, 없으면 서명/만료를 검증하고 캐시에 저장
+     * @throws JwtException 유효하지 않은 토큰 (캐시에 저장하지 않음)
+     */
+    private Claims verifiedClaims(String token){
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty.");
+        }
+        return verifiedTokens.get(TokenHasher.sha256(token), key -> jwtParser.parseSignedClaims(token).getPayload());
+    }
+
+    // 캐시 항목 유효 시간 = 토큰 만료(exp)까지 남은 시간
+    private static Duration untilExpiration(Claims claims){
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO; // 만료 시각이 없는 토큰은 캐시하지 않음
+        }
+        return Duration.ofMillis(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
     }
 
 
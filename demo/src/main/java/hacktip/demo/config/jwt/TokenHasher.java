@@ -0,0 +1,25 @@
+package hacktip.demo.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * [신규] 토큰 문자열 -> 고정 길이 SHA-256 해시 (Base64 URL-safe, 43자)
+ * DB/캐시에 원본 토큰 대신 저장해서, 저장소가 유출되어도 토큰을 그대로 쓸 수 없게 합니다.
+ */
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e); // 모든 JVM 에 포함되어 있으므로 발생하지 않음
+        }
+    }
+}
@@ -2,6 +2,8 @@ package hacktip.demo.controller;
 
 import hacktip.demo.dto.CommentRequestDto;
 import hacktip.demo.dto.CommentResponseDto;
+import hacktip.demo.dto.CommentSliceResponseDto;
+import hacktip.demo.dto.RecentCommentResponseDto;
 import hacktip.demo.security.UserDetailsImpl; // Spring Security의 UserDetails 구현체
 import hacktip.demo.service.CommentService;
 import jakarta.validation.Valid;
@@ -23,9 +25,18 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    /**
+     * [수정] 최근 댓글 목록 조회 API (전체 댓글 대신 한 페이지만)
+     * [GET] /api/comments?author=&before=&size=
+     * 다음 페이지는 응답 마지막 댓글의 commentId 를 before 로 전달합니다.
+     */
     @GetMapping("/comments")
-    public ResponseEntity<List<CommentResponseDto>> getAllComments(){
-        List<CommentResponseDto> comments = commentService.findAll();
+    public ResponseEntity<List<RecentCommentResponseDto>> getRecentComments(
+            @RequestParam(value = "author", required = false) String author,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "size", required = false) Integer size
+    ){
+        List<RecentCommentResponseDto> comments = commentService.getRecentComments(author, before, size);
 
         return ResponseEntity.ok(comments);
     }
@@ -40,6 +51,21 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * [신규] 특정 게시글의 댓글 커서 페이지 조회 API
+     * [GET] /api/posts/{postId}/comments/feed?cursor=&size=
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달하면 이어지는 댓글을 받습니다.
+     */
+    @GetMapping("/posts/{postId}/comments/feed")
+    public ResponseEntity<CommentSliceResponseDto> getCommentPage(
+            @PathVariable Long postId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CommentSliceResponseDto comments = commentService.getCommentPage(postId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
     /**
      * 댓글 생성 API
      * [POST] /api/posts/{postId}/comments
@@ -0,0 +1,51 @@
+package hacktip.demo.controller;
+
+import hacktip.demo.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * [신규] 분석용 데이터 내보내기 API (관리자 전용)
+ * 응답은 NDJSON (한 줄에 JSON 객체 하나) 으로, 전체 테이블을 스트리밍합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    // [GET] /api/admin/export/posts
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ndjson("posts.ndjson", exportService::exportPosts);
+    }
+
+    // [GET] /api/admin/export/comments
+    @GetMapping("/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments() {
+        return ndjson("comments.ndjson", exportService::exportComments);
+    }
+
+    // [GET] /api/admin/export/likes
+    @GetMapping("/likes")
+    public ResponseEntity<StreamingResponseBody> exportLikes() {
+        return ndjson("likes.ndjson", exportService::exportLikes);
+    }
+
+    // 응답 본문은 별도(비동기) 스레드에서 쓰이므로 서블릿 스레드를 오래 붙잡지 않음
+    private ResponseEntity<StreamingResponseBody> ndjson(String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,30 @@
+package hacktip.demo.controller;
+
+import hacktip.demo.dto.importDto.ImportReportDto;
+import hacktip.demo.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * [신규] 데이터 일괄 가져오기 API (관리자 전용)
+ * 요청 본문을 NDJSON 으로 받아서 스트리밍으로 처리합니다. (본문 전체를 메모리에 올리지 않음)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/import")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    // [POST] /api/admin/import  (Content-Type: application/x-ndjson)
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<ImportReportDto> importData(InputStream body) {
+        ImportReportDto report = bulkImportService.importNdjson(body);
+        return ResponseEntity.ok(report);
+    }
+}
@@ -6,9 +6,9 @@ import hacktip.demo.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,13 +19,22 @@ public class LikeController {
 
     private final LikeService likeService;
 
-    @PostMapping
-    public ResponseEntity<LikeResponseDto> toggleLike(
+    // [변경] 토글 대신 멱등한 등록/취소 (더블 클릭해도 결과가 같음)
+    @PutMapping
+    public ResponseEntity<LikeResponseDto> like(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        String email = userDetails.getUsername();
-        LikeResponseDto updatedLikes = likeService.toggleLike(postId, email);
+        LikeResponseDto updatedLikes = likeService.like(postId, userDetails.getMemberId());
         return ResponseEntity.ok(updatedLikes);
     }
-}
\ No newline at end of file
+
+    @DeleteMapping
+    public ResponseEntity<LikeResponseDto> unlike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        LikeResponseDto updatedLikes = likeService.unlike(postId, userDetails.getMemberId());
+        return ResponseEntity.ok(updatedLikes);
+    }
+}
@@ -4,9 +4,11 @@ import hacktip.demo.dto.*;// 1. dto 패키지 와일드카드 임포트 (TokenIn
 import hacktip.demo.dto.MemberDto.MemberLoginRequestDto;
 import hacktip.demo.dto.MemberDto.MemberSignUpRequestDto;
 import hacktip.demo.dto.MemberDto.MemberSignUpResponseDto;
+import hacktip.demo.dto.MemberDto.MemberSliceResponseDto;
 import hacktip.demo.dto.MemberDto.ResponseUserDataDto;
 import hacktip.demo.security.UserDetailsImpl;
 import hacktip.demo.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.Cookie; // 2. Cookie 임포트
@@ -29,18 +31,21 @@ public class MemberController {
 
     //회원가입
     @PostMapping("/signup")
-    public ResponseEntity<MemberSignUpResponseDto> signUp(@Valid @RequestBody MemberSignUpRequestDto request){
-        MemberSignUpResponseDto memberSignUpResponseDto = memberService.signUp(request);
+    public ResponseEntity<MemberSignUpResponseDto> signUp(@Valid @RequestBody MemberSignUpRequestDto request, HttpServletRequest httpRequest){
+        MemberSignUpResponseDto memberSignUpResponseDto = memberService.signUp(request, httpRequest.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(memberSignUpResponseDto);
     }
 
     //회원 삭제
     @DeleteMapping("/members/{memberId}")
-    public ResponseEntity<String> deleteMember(@PathVariable Long memberId, @AuthenticationPrincipal UserDetails userDetails, HttpServletResponse response){
+    public ResponseEntity<String> deleteMember(@PathVariable Long memberId, @AuthenticationPrincipal UserDetails userDetails,
+                                               @RequestHeader(value = "Authorization", required = false) String bearerToken,
+                                               HttpServletResponse response){
         UserDetailsImpl authenticatedUser = (UserDetailsImpl) userDetails;
 
-        memberService.deleteMember(memberId, authenticatedUser);
+        // [추가] 본인 탈퇴면 요청에 사용된 Access Token 도 폐기
+        memberService.deleteMember(memberId, authenticatedUser, bearerToken);
 
         //계정이 삭제되었으니 브라우저에 남아있는 Refresh Token 쿠키도 삭제
         if(authenticatedUser.getMemberId().equals(memberId)){
@@ -52,9 +57,9 @@ public class MemberController {
 
     //로그인
     @PostMapping("/login")
-    public ResponseEntity<TokenResponseDto> login(@Valid @RequestBody MemberLoginRequestDto request, HttpServletResponse response){
-        // 5. Service 호출 (반환 타입이 TokenInfo로 변경됨)
-        TokenInfo tokenInfo = memberService.login(request);
+    public ResponseEntity<TokenResponseDto> login(@Valid @RequestBody MemberLoginRequestDto request, HttpServletRequest httpRequest, HttpServletResponse response){
+        // 5. Service 호출 (반환 타입이 TokenInfo로 변경됨, [신규] 요청 제한용 클라이언트 IP 전달)
+        TokenInfo tokenInfo = memberService.login(request, httpRequest.getRemoteAddr());
 
         // 6. (추가) Refresh Token을 HttpOnly 쿠키에 추가
         addRefreshTokenToCookie(tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationMs(), response);
@@ -66,14 +71,16 @@ public class MemberController {
 
     /**
      * 로그아웃
-     * (DB에서 RT 삭제 + 브라우저의 RT 쿠키 만료)
+     * (DB에서 RT 삭제 + [신규] 현재 AT 폐기 + 브라우저의 RT 쿠키 만료)
      */
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(@AuthenticationPrincipal UserDetails userDetails, HttpServletResponse response){
+    public ResponseEntity<String> logout(@AuthenticationPrincipal UserDetails userDetails,
+                                         @RequestHeader(value = "Authorization", required = false) String bearerToken,
+                                         HttpServletResponse response){
         String email = userDetails.getUsername();
 
-        // 1. (DB) 서비스 호출하여 DB에서 Refresh Token 삭제
-        memberService.logout(email);
+        // 1. (DB) 서비스 호출하여 DB에서 Refresh Token 삭제, 요청에 사용된 Access Token 폐기
+        memberService.logout(email, bearerToken);
 
         // 2. (Cookie) 클라이언트(브라우저)의 HttpOnly 쿠키 삭제
         //     (만료 시간을 0으로 설정한 같은 이름의 쿠키를 덮어씌움)
@@ -105,6 +112,28 @@ public class MemberController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * [신규] 회원 목록 (키셋 페이지네이션 + 필터)
+     * GET /api/users/page?cursor={nextCursor}&size=20&role=취준생&stack=Java
+     */
+    @GetMapping("/users/page")
+    public ResponseEntity<MemberSliceResponseDto> getUserPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String stack) {
+        return ResponseEntity.ok(memberService.findUserPage(cursor, size, role, stack));
+    }
+
+    /**
+     * [추가] 이름으로 회원 조회 (화면에 표시할 작성자/멘션 대상만)
+     * GET /api/users/by-name?names=홍길동&names=김철수
+     */
+    @GetMapping("/users/by-name")
+    public ResponseEntity<List<ResponseUserDataDto>> getUsersByNames(@RequestParam List<String> names) {
+        return ResponseEntity.ok(memberService.findUsersByNames(names));
+    }
+
     //자신의 기술 스택 갱신
     @PutMapping("/members/me/stacks")
     public ResponseEntity<Void> updateMemberStacks(@AuthenticationPrincipal UserDetails userDetails, @RequestBody UpdateMemberStacksDto request) {
@@ -135,12 +164,15 @@ public class MemberController {
      * (HttpOnly 쿠키에 담긴 Refresh Token을 @CookieValue로 읽어옴)
      */
     @PostMapping("/reissue")
-    public ResponseEntity<TokenResponseDto> reissue(@CookieValue("refreshToken") String refreshToken){// 3. "refreshToken" 쿠키 값을 읽어서 String refreshToken 변수에 할당
-        // 4. 서비스를 호출하여 새로운 AT 발급
-        TokenResponseDto tokenResponseDto = memberService.reissueToken(refreshToken);
+    public ResponseEntity<TokenResponseDto> reissue(@CookieValue("refreshToken") String refreshToken, HttpServletResponse response){// 3. "refreshToken" 쿠키 값을 읽어서 String refreshToken 변수에 할당
+        // 4. 서비스를 호출하여 새로운 AT 발급 ([변경] RT도 새로 발급되어 교체됨)
+        TokenInfo tokenInfo = memberService.reissueToken(refreshToken);
+
+        // 5. [신규] 교체된 RT를 HttpOnly 쿠키에 다시 저장
+        addRefreshTokenToCookie(tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationMs(), response);
 
-        // 5. 새로운 AT를 Body에 담아 200 OK 응답
-        return ResponseEntity.ok(tokenResponseDto);
+        // 6. 새로운 AT를 Body에 담아 200 OK 응답
+        return ResponseEntity.ok(new TokenResponseDto(tokenInfo.getAccessToken()));
     }
 
 
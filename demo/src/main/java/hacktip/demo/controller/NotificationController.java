@@ -2,7 +2,10 @@ package hacktip.demo.controller;
 
 import hacktip.demo.domain.Member;
 import hacktip.demo.dto.NotificationResponseDto;
+import hacktip.demo.dto.NotificationSliceResponseDto;
+import hacktip.demo.dto.UnreadCountResponseDto;
 import hacktip.demo.repository.MemberRepository;
+import hacktip.demo.security.UserDetailsImpl;
 import hacktip.demo.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -34,14 +37,42 @@ public class NotificationController {
         return notificationService.getMyNotifications(member);
     }
 
+    /**
+     * [신규] 알림 목록 (키셋 페이지네이션)
+     * GET /api/notifications/page?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/page")
+    public ResponseEntity<NotificationSliceResponseDto> getNotificationPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(notificationService.getMyNotificationPage(userDetails.getMemberId(), cursor, size));
+    }
+
+    // [신규] 안 읽은 알림 수 (뱃지용)
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountResponseDto> getUnreadCount(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(new UnreadCountResponseDto(notificationService.getUnreadCount(userDetails.getMemberId())));
+    }
+
     // [신규] 알림 읽음 처리 API
     @PostMapping("/{id}/read")
-    public ResponseEntity<Void> readNotification(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) throws AccessDeniedException {
-        Member member = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("회원 정보가 없습니다."));
-
-        notificationService.readNotification(id, member);
+    public ResponseEntity<Void> readNotification(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) throws AccessDeniedException {
+        // [성능 개선] 회원 조회 없이 토큰의 회원 ID로 바로 처리
+        notificationService.readNotification(id, userDetails.getMemberId());
 
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * [신규] 일괄 읽음 처리
+     * POST /api/notifications/read-all?upToId={화면에 표시된 최신 알림 ID} (생략 시 전체)
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<UnreadCountResponseDto> readAllNotifications(
+            @RequestParam(required = false) Long upToId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        int unreadCount = notificationService.readAll(userDetails.getMemberId(), upToId);
+        return ResponseEntity.ok(new UnreadCountResponseDto(unreadCount));
+    }
 }
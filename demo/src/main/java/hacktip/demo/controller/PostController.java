@@ -30,11 +30,24 @@ public class PostController {
 
     // 게시글 카테고리별 조회 (누구나 가능)
     @GetMapping("/category/{categoryName}")
-    public ResponseEntity<List<PostSimpleResponseDto>> getPostsByCategory(@PathVariable String categoryName){
-        List<PostSimpleResponseDto> posts = postService.getPostsByCategory(categoryName);
+    public ResponseEntity<List<PostSimpleResponseDto>> getPostsByCategory(@PathVariable String categoryName,
+                                                                          @AuthenticationPrincipal UserDetailsImpl userDetails){
+        List<PostSimpleResponseDto> posts = postService.getPostsByCategory(categoryName, memberIdOf(userDetails));
         return ResponseEntity.ok(posts);
     }
 
+    // [신규] 카테고리별 게시물 피드 커서 페이지 조회 (누구나 가능)
+    @GetMapping("/category/{categoryName}/feed")
+    public ResponseEntity<PostSliceResponseDto> getFeedByCategory(
+            @PathVariable String categoryName,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        PostSliceResponseDto feed = postService.getFeedByCategory(categoryName, cursor, size, memberIdOf(userDetails));
+        return ResponseEntity.ok(feed);
+    }
+
     /**
      * 1. 게시물 생성 (POST /posts)
      * (인증된 사용자만)
@@ -53,14 +66,77 @@ public class PostController {
      * (누구나)
      */
     @GetMapping
-    public ResponseEntity<List<PostSimpleResponseDto>> getAllPosts(){
-        List<PostSimpleResponseDto> posts = postService.getAllPosts();
+    public ResponseEntity<List<PostSimpleResponseDto>> getAllPosts(@AuthenticationPrincipal UserDetailsImpl userDetails){
+        List<PostSimpleResponseDto> posts = postService.getAllPosts(memberIdOf(userDetails));
 
         // 4. 200 OK 응답과 함께 목록 반환
         return ResponseEntity.ok(posts);
     }
 
 
+    /**
+     * [신규] 게시물 피드 커서 페이지 조회 (GET /posts/feed?cursor=&size=)
+     * (누구나)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달하면 이어지는 페이지를 받습니다.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<PostSliceResponseDto> getFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        PostSliceResponseDto feed = postService.getFeed(cursor, size, memberIdOf(userDetails));
+        return ResponseEntity.ok(feed);
+    }
+
+    /**
+     * [신규] 게시물 목록 페이지 조회 (GET /posts/query?category=&author=&q=&sort=&page=&size=)
+     * (누구나)
+     * 필터/정렬/페이지 나누기를 서버에서 처리하고 요청한 한 페이지만 반환합니다.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<PostPageResponseDto> queryPosts(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "author", required = false) String author,
+            @RequestParam(value = "q", required = false) String term,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        PostPageResponseDto result = postService.queryPosts(category, author, term, sort, page, size, memberIdOf(userDetails));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * [신규] 인기 급상승 게시물 조회 (GET /posts/trending?size=)
+     * (누구나)
+     * 최근 조회/좋아요/댓글이 많은 순서 (오래된 반응일수록 점수가 줄어듦)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostSimpleResponseDto>> getTrendingPosts(
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        List<PostSimpleResponseDto> posts = postService.getTrendingPosts(size, memberIdOf(userDetails));
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * [신규] 게시물 전문 검색 (GET /posts/search?q=&size=)
+     * (누구나)
+     * 제목과 본문을 대상으로 검색 점수가 높은 순서대로 반환합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSimpleResponseDto>> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        List<PostSimpleResponseDto> posts = postService.searchPosts(query, size, memberIdOf(userDetails));
+        return ResponseEntity.ok(posts);
+    }
+
     /**
      * 3. 게시물 상세 조회 (GET /posts/{postId})
      * (누구나)
@@ -68,11 +144,11 @@ public class PostController {
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDto> getPostById(
             @PathVariable("postId") Long postId,
+            @RequestParam(value = "embed", required = false) String embed, // [신규] embed=comments 이면 첫 댓글 페이지 포함
             @AuthenticationPrincipal UserDetailsImpl userDetails // 인증된 사용자 정보, 비로그인 시 null
     ){
-        // 비로그인 사용자는 email이 null, 로그인 사용자는 자신의 email을 전달
-        String email = (userDetails != null) ? userDetails.getEmail() : null;
-        PostResponseDto responseDto = postService.getPostById(postId, email);
+        // 비로그인 사용자는 null, 로그인 사용자는 자신의 회원 ID를 전달
+        PostResponseDto responseDto = postService.getPostById(postId, memberIdOf(userDetails), "comments".equals(embed));
 
         // 5. 200 OK 응답과 함께 상세 정보 반환
         return ResponseEntity.ok(responseDto);
@@ -105,5 +181,10 @@ public class PostController {
         return ResponseEntity.ok("게시물이 삭제되었습니다.");
     }
 
+    // '좋아요' 여부 표시용 (비로그인이면 null)
+    private static Long memberIdOf(UserDetailsImpl userDetails) {
+        return (userDetails != null) ? userDetails.getMemberId() : null;
+    }
+
 
 }
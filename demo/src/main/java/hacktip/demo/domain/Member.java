@@ -3,6 +3,7 @@ package hacktip.demo.domain;
 import hacktip.demo.domain.post.Post;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,13 @@ public class Member {
     @Column(name = "ROLE", nullable = false)
     private Role role;
 
+    // [신규] 안 읽은 알림 수 (알림 목록을 세지 않고 바로 조회하기 위한 카운터)
+    //  - 알림 생성/읽음 처리 시 "X = X + n" UPDATE 문으로만 증감 (updatable = false 이므로 회원 정보 수정 시 덮어쓰지 않음)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "UNREAD_NOTI_COUNT", nullable = false, updatable = false)
+    private int unreadNotificationCount = 0;
+
 
     // cascade = ALL: 회원이 삭제되면 연결된 기술 스택 정보도 같이 삭제됨 (DB의 ON DELETE CASCADE와 맞춤)
     // orphanRemoval = true: 리스트에서 제거하면 DB에서도 삭제됨
@@ -3,14 +3,22 @@ package hacktip.demo.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "REFRESH_TOKENS")
+@Table(name = "REFRESH_TOKENS", indexes = {
+        // [신규] 해시로 토큰 조회 (유효하지 않은 토큰 삭제 시) / 같은 토큰이 두 행에 저장되지 않도록 유니크
+        @Index(name = "UK_REFRESH_TOKEN_HASH", columnList = "TOKEN_HASH", unique = true),
+        // [신규] 만료된 토큰 정리(RefreshTokenSweeper)용
+        @Index(name = "IDX_REFRESH_TOKENS_EXPIRES", columnList = "EXPIRES_AT")
+})
 
 public class RefreshToken {
 
@@ -20,26 +28,25 @@ public class RefreshToken {
     @Column(name = "USER_EMAIL", nullable = false)
     private String email;
 
-    // 3. 실제 Refresh Token 값
-    @Column(name = "TOKEN_VALUE", nullable = false)
-    private String tokenValue;
+    // 3. [변경] 실제 Refresh Token 값 대신 SHA-256 해시 (고정 길이 43자, TokenHasher 참고)
+    //    -> 테이블이 유출되어도 토큰을 그대로 사용할 수 없음
+    @Column(name = "TOKEN_HASH", nullable = false, length = 64)
+    private String tokenHash;
+
+    // 4. [신규] 토큰 만료 시각 (지난 행은 RefreshTokenSweeper 가 삭제)
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
 
     /**
      * 객체 생성 시 사용할 생성자
+     * (저장/갱신은 RefreshTokenRepository.upsert 로 한 번에 처리)
      * @param email 사용자의 고유 이메일
-     * @param tokenValue 발급된 리프레시 토큰 값
+     * @param tokenHash 발급된 리프레시 토큰의 해시
+     * @param expiresAt 토큰 만료 시각
      */
-    public RefreshToken(String email, String tokenValue){
+    public RefreshToken(String email, String tokenHash, LocalDateTime expiresAt){
         this.email = email;
-        this.tokenValue = tokenValue;
-    }
-
-    /**
-     * 리프레시 토큰 값을 갱신하기 위한 메서드
-     * (로그인 시마다 새 리프레시 토큰으로 덮어쓰기 위해 사용)
-     * @param newTokenValue 새로 발급된 리프레시 토큰 값
-     */
-    public void updateToken(String newTokenValue){
-        this.tokenValue = newTokenValue;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
     }
 }
@@ -0,0 +1,40 @@
+package hacktip.demo.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * [신규] 폐기된 Access Token (로그아웃 등)
+ * 요청마다 이 테이블을 조회하지 않고, 서버 메모리의 AccessTokenRevocationList 가 기동 시/주기적으로 읽어 둡니다.
+ * (서버를 다시 시작해도 폐기 상태가 유지되도록 저장하는 용도)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "REVOKED_ACCESS_TOKENS", indexes = {
+        @Index(name = "IDX_REVOKED_TOKENS_EXPIRES", columnList = "EXPIRES_AT")
+})
+public class RevokedAccessToken {
+
+    // 토큰 ID (jti 클레임, UUID)
+    @Id
+    @Column(name = "JTI", length = 36)
+    private String jti;
+
+    // 토큰 만료 시각 (이후에는 토큰 자체가 만료되므로 행을 지워도 됨)
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedAccessToken(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
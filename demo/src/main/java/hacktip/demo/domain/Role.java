@@ -28,6 +28,14 @@ public enum Role {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + inputValue));
     }
 
+    // [신규] 권한 키("ROLE_ADMIN" 등)로 찾기 (JWT 의 auth 클레임 -> Role)
+    public static Role fromKey(String key) {
+        return Stream.of(Role.values())
+                .filter(role -> role.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 권한입니다: " + key));
+    }
+
     // 3. [응답 처리] 서버 -> 프론트엔드 (JSON response)
     // 서버가 클라이언트에게 Role을 줄 때 "취준생"으로 줄지, "JOB_SEEKER"로 줄지 결정
     // @JsonValue가 붙은 필드의 값이 나갑니다.
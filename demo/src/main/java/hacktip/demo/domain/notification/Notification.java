@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -16,7 +17,14 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "NOTIFICATION")
+@Table(name = "NOTIFICATION", indexes = {
+        // [신규] 회원별 알림 목록 키셋 페이지네이션 / 일괄 읽음 처리용
+        @Index(name = "IDX_NOTI_RECEIVER", columnList = "RECEIVER_ID, NOTIFICATION_ID"),
+        // [신규] 게시글 삭제 시 해당 게시글 알림 조회용
+        @Index(name = "IDX_NOTI_POST", columnList = "POST_ID"),
+        // [신규] 오래된 읽은 알림 정리(NotificationRetentionJob)용
+        @Index(name = "IDX_NOTI_READ_DATE", columnList = "IS_READ, CREATED_DATE")
+})
 public class Notification {
 
     @Id
@@ -48,6 +56,19 @@ public class Notification {
     @Column(name = "IS_READ", nullable = false)
     private boolean isRead; // 읽음 여부
 
+    // [신규] 알림 종류 / 가장 최근 행위자 / 이 행에 합쳐진 알림 수
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'COMMENT'")
+    @Column(name = "NOTI_TYPE", nullable = false, length = 30)
+    private NotificationType type = NotificationType.COMMENT;
+
+    @Column(name = "ACTOR_NAME")
+    private String actorName;
+
+    @ColumnDefault("1")
+    @Column(name = "EVENT_COUNT", nullable = false)
+    private int eventCount = 1;
+
     @CreationTimestamp
     @Column(name = "CREATED_DATE", nullable = false, updatable = false)
     private LocalDateTime createdDate;
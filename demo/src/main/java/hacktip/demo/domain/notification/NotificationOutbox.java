@@ -0,0 +1,77 @@
+package hacktip.demo.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * [신규] 알림 발송 대기열 (transactional outbox)
+ * 댓글 작성 등 알림을 발생시킨 트랜잭션 안에서 한 행만 INSERT 하고,
+ * 실제 NOTIFICATION 행 생성은 NotificationOutboxDispatcher 가 백그라운드에서 일괄 처리합니다.
+ * (알림 처리가 느리거나 실패해도 원래 작업의 커밋에는 영향이 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "NOTIFICATION_OUTBOX")
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_NOTI_OUTBOX_GENERATOR")
+    @SequenceGenerator(
+            name = "SEQ_NOTI_OUTBOX_GENERATOR",
+            sequenceName = "SEQ_NOTI_OUTBOX",
+            initialValue = 1,
+            allocationSize = 50 // pooled-lo: 시퀀스 1번 호출로 ID 50개 확보 (DB 시퀀스도 INCREMENT BY 50)
+    )
+    @Column(name = "OUTBOX_ID")
+    private Long id;
+
+    // 외래키 없이 ID만 저장 (처리 전에 게시글/회원이 삭제되면 발송 시 건너뜀)
+    @Column(name = "RECEIVER_ID", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "POST_ID", nullable = false)
+    private Long postId;
+
+    @Column(name = "MESSAGE", nullable = false)
+    private String message;
+
+    // [신규] 알림 종류 / 알림을 발생시킨 회원 이름 (처리기가 같은 게시글 알림을 합칠 때 메시지를 다시 만드는 데 사용)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'COMMENT'")
+    @Column(name = "NOTI_TYPE", nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(name = "ACTOR_NAME")
+    private String actorName;
+
+    // [추가] 처리 실패 횟수 / 마지막 오류
+    // (notification.outbox.max-attempts 에 도달한 행은 더 이상 처리하지 않고 확인용으로 남겨 둠 = dead letter)
+    @ColumnDefault("0")
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    // 알림이 발생한 시각 (NOTIFICATION.CREATED_DATE 로 그대로 옮김)
+    @CreationTimestamp
+    @Column(name = "CREATED_DATE", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Builder
+    public NotificationOutbox(Long receiverId, Long postId, NotificationType type, String actorName) {
+        this.receiverId = receiverId;
+        this.postId = postId;
+        this.type = type;
+        this.actorName = actorName;
+        this.message = type.messageOf(actorName);
+    }
+}
@@ -0,0 +1,43 @@
+package hacktip.demo.domain.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * [신규] 알림 종류
+ * 같은 게시글에 같은 종류의 알림이 짧은 시간에 여러 번 발생하면 한 행으로 합쳐서 저장합니다.
+ * (NotificationOutboxDispatcher 참고)
+ */
+@RequiredArgsConstructor
+@Getter
+public enum NotificationType {
+    COMMENT("%s님이 회원님의 게시글에 댓글을 남겼습니다.",
+            "%s님 외 %d건의 댓글이 회원님의 게시글에 달렸습니다.");
+
+    private final String singleFormat;     // 알림 1건
+    private final String aggregateFormat;  // 합쳐진 알림 (가장 최근 행위자 + 나머지 건수)
+
+    /**
+     * [추가] DB 에 저장된 종류 이름으로 찾기
+     * @return 모르는 이름이면 null (예외를 던지지 않음 -> 처리기가 해당 행만 제외할 수 있도록)
+     */
+    public static NotificationType fromCode(String code) {
+        for (NotificationType type : values()) {
+            if (type.name().equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public String messageOf(String actorName) {
+        return String.format(singleFormat, actorName);
+    }
+
+    /**
+     * @param eventCount 합쳐진 전체 건수 (1이면 단건 메시지)
+     */
+    public String messageOf(String actorName, int eventCount) {
+        return eventCount <= 1 ? messageOf(actorName) : String.format(aggregateFormat, actorName, eventCount - 1);
+    }
+}
@@ -5,8 +5,9 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.ArrayList;
 import java.sql.Timestamp;
@@ -15,7 +16,19 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "POST")
+@Table(
+        name = "POST",
+        indexes = {
+                // [성능 개선] 피드 키셋 페이지네이션용 인덱스 (ORDER BY CREATEDATE DESC, POSTID DESC)
+                @Index(name = "IDX_POST_FEED", columnList = "CREATEDATE, POSTID"),
+                @Index(name = "IDX_POST_CATEGORY_FEED", columnList = "CATEGORYID, CREATEDATE, POSTID"),
+                // [신규] 목록 조회 정렬/필터용 인덱스 (인기순 정렬, 작성자별 조회)
+                @Index(name = "IDX_POST_LIKES", columnList = "LIKE_COUNT, POSTID"),
+                @Index(name = "IDX_POST_VIEWS", columnList = "VIEWCOUNT, POSTID"),
+                @Index(name = "IDX_POST_COMMENTS", columnList = "COMMENT_COUNT, POSTID"),
+                @Index(name = "IDX_POST_MEMBER", columnList = "MEMBERID, CREATEDATE, POSTID")
+        }
+)
 public class Post {
 
     @Id
@@ -24,7 +37,7 @@ public class Post {
             name = "SEQ_POST_GENERATOR",
             sequenceName = "SEQ_POST",
             initialValue = 1,
-            allocationSize = 1
+            allocationSize = 50 // [성능 개선] pooled-lo: 시퀀스 1번 호출로 ID 50개 확보 (DB 시퀀스도 INCREMENT BY 50)
     )
     @Column(name = "POSTID")
     private long postId;
@@ -41,13 +54,20 @@ public class Post {
     @Column(name = "CONTENT", nullable = false)
     private String content;
 
-    @Column(name = "VIEWCOUNT")
+    // [성능 개선] 조회수는 PostViewCountBuffer 가 배치 UPDATE 로만 반영
+    //  (updatable = false 이므로 게시물 수정 시 dirty checking 으로 반영된 조회수를 덮어쓰지 않음)
+    @Column(name = "VIEWCOUNT", updatable = false)
     private int viewCount = 0; // 8. (JPA) DDL의 DEFAULT 0을 엔티티 레벨에서 초기화
 
     @CreationTimestamp
     @Column(name = "CREATEDATE", nullable = false, updatable = false)
     private Timestamp createDate;
 
+    // [신규] 마지막 수정 시각 (검색 인덱스가 재시작 후 바뀐 게시물만 다시 색인할 때 사용)
+    @UpdateTimestamp
+    @Column(name = "MODIFYDATE")
+    private Timestamp modifyDate;
+
 
     @Column(name = "GITHUBURL", length = 300)
     private String githubUrl;
@@ -60,9 +80,17 @@ public class Post {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostLike> likes = new ArrayList<>();
 
-    // [성능 개선] N+1 문제 해결을 위해 댓글 수를 서브쿼리로 계산
-    @Formula("(SELECT count(1) FROM post_comment pc WHERE pc.postid = postid)")
-    private int commentCount;
+    // [성능 개선] 좋아요 수 / 댓글 수를 POST 테이블에 직접 저장 (비정규화 카운터)
+    //  - 값 변경은 PostRepository 의 원자적 증감 UPDATE 로만 수행
+    //    (updatable = false 이므로 게시물 수정 시 dirty checking 으로 오래된 값을 덮어쓰지 않음)
+    //  - 어긋난 값은 PostCounterReconciler 가 주기적으로 보정
+    @ColumnDefault("0")
+    @Column(name = "LIKE_COUNT", nullable = false, updatable = false)
+    private int likesCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "COMMENT_COUNT", nullable = false, updatable = false)
+    private int commentCount = 0;
 
     // [변경] 게시글 - 카테고리 관계 (N:1)
     @ManyToOne(fetch = FetchType.LAZY)
@@ -84,14 +112,4 @@ public class Post {
         this.content = content;
         this.category = category;
     }
-
-    // 조회수 증가 매서드 (서비스 로직용)
-    public void increaseViewCount(){
-        this.viewCount++;
-    }
-
-    // 좋아요 수 반환 매서드
-    public int getLikesCount() {
-        return likes.size();
-    }
 }
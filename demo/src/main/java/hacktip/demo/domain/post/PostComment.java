@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "POST_COMMENT")
+@Table(name = "POST_COMMENT", indexes = {
+        // [성능 개선] 게시물별 댓글 키셋 페이지네이션용 (정렬 순서와 동일)
+        @Index(name = "IDX_COMMENT_POST", columnList = "POSTID, CREATEDATE, COMMENTID")
+})
 public class PostComment {
 
     @Id
@@ -22,7 +25,7 @@ public class PostComment {
             name = "SEQ_COMMENT_GENERATOR",
             sequenceName = "SEQ_COMMENT",
             initialValue = 1,
-            allocationSize = 1
+            allocationSize = 50 // [성능 개선] pooled-lo: 시퀀스 1번 호출로 ID 50개 확보 (DB 시퀀스도 INCREMENT BY 50)
     )
     @Column(name = "COMMENTID")
     private Long commentId;
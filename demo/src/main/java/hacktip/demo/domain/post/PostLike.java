@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "POST_LIKES")
+@Table(name = "POST_LIKES", indexes = {
+        // PK 는 (POSTID, MEMBERID) 순서라 회원 기준 조회에는 쓸 수 없으므로 별도 인덱스
+        @Index(name = "IDX_POST_LIKES_MEMBER", columnList = "MEMBERID, POSTID")
+})
 @IdClass(PostLikeId.class) // 복합 키 클래스를 지정
 public class PostLike {
 
@@ -21,4 +21,16 @@ public class CommentResponseDto {
         this.createDate = comment.getCreateDate();
         this.postId = comment.getPost().getPostId();
     }
+
+    /**
+     * 목록 조회용 DTO 생성자 (JPQL 생성자 표현식 전용)
+     * [성능 개선] 작성자 이름을 JOIN 으로 함께 조회하므로 댓글마다 Member 를 Lazy Loading 하지 않음
+     */
+    public CommentResponseDto(Long commentId, String contents, String authorName, LocalDateTime createDate, Long postId) {
+        this.commentId = commentId;
+        this.contents = contents;
+        this.authorName = authorName;
+        this.createDate = createDate;
+        this.postId = postId;
+    }
 }
\ No newline at end of file
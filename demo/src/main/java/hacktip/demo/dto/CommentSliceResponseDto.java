@@ -0,0 +1,15 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor //(댓글 커서 페이지 응답)
+public class CommentSliceResponseDto {
+
+    private List<CommentResponseDto> comments;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,55 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서
+ * (정렬 기준인 작성 시각 + 동일 시각 정렬을 위한 ID)
+ * 클라이언트에는 Base64(URL-safe) 문자열로 감싸서 내려주므로 내부 구조가 노출되지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createDate;
+    private final Long id;
+
+    /**
+     * 커서를 불투명한(opaque) 문자열로 인코딩
+     * (LocalDateTime.toString()은 나노초까지 보존하므로 같은 초에 작성된 글도 누락/중복되지 않음)
+     */
+    public String encode() {
+        String raw = createDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석
+     * @param cursor encode()로 만든 문자열 (없으면 null 반환 -> 첫 페이지)
+     * @throws ResponseStatusException 해석할 수 없는 커서 (클라이언트 오류이므로 400)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            // NumberFormatException 은 IllegalArgumentException 의 하위 타입
+            // [수정] 전역 예외 처리기가 없으므로 500 이 되지 않도록 상태 코드를 직접 지정
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
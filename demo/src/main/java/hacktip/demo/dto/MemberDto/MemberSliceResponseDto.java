@@ -0,0 +1,15 @@
+package hacktip.demo.dto.MemberDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor //(회원 목록 커서 페이지 응답)
+public class MemberSliceResponseDto {
+
+    private List<ResponseUserDataDto> users;
+    private Long nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
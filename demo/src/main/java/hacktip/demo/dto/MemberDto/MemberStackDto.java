@@ -1,15 +1,26 @@
 package hacktip.demo.dto.MemberDto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import hacktip.demo.domain.MemberStack;
 import lombok.Getter;
 
 @Getter
 public class MemberStackDto {
+    @JsonIgnore
+    private final Long memberId; // 회원별로 묶을 때만 사용 (응답에는 포함하지 않음)
     private final Long stackId;
     private final String stackName;
 
     public MemberStackDto(MemberStack memberStack) {
+        this.memberId = null;
         this.stackId = memberStack.getTechStack().getStackId();
         this.stackName = memberStack.getTechStack().getStackName();
     }
-}
\ No newline at end of file
+
+    // [신규] JPQL 생성자 조회용 (TechStack 엔티티를 거치지 않음)
+    public MemberStackDto(Long memberId, Long stackId, String stackName) {
+        this.memberId = memberId;
+        this.stackId = stackId;
+        this.stackName = stackName;
+    }
+}
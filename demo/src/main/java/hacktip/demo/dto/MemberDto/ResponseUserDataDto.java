@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -17,4 +18,12 @@ public class ResponseUserDataDto {
     private String name;
     private Role role;
     List<MemberStackDto> memberStacks; // [수정] 엔티티 대신 DTO를 사용
+
+    // [신규] JPQL 생성자 조회용 (기술 스택은 별도 쿼리 한 번으로 채움)
+    public ResponseUserDataDto(Long id, String name, Role role) {
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.memberStacks = new ArrayList<>();
+    }
 }
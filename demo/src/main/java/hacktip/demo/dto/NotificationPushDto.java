@@ -0,0 +1,13 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(새 알림 실시간 전송 메시지, /user/queue/notifications)
+public class NotificationPushDto {
+
+    private NotificationResponseDto notification;
+    private int unreadDelta; // 안 읽은 알림 수 변화량 (받은 쪽에서 뱃지 숫자에 더함)
+    private Long replacedId; // [신규] 이 알림에 합쳐진 기존 알림의 예전 ID (받은 쪽 목록에서 예전 항목을 빼고 새 ID로 표시, 없으면 null)
+}
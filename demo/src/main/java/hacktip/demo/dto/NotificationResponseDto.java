@@ -22,4 +22,13 @@ public class NotificationResponseDto {
         this.createdDate = notification.getCreatedDate();
     }
 
+    // [신규] 엔티티 없이 값으로 생성 (대기열 처리기가 실시간 전송할 때 사용)
+    public NotificationResponseDto(Long id, String message, Long postId, boolean isRead, LocalDateTime createdDate) {
+        this.id = id;
+        this.message = message;
+        this.postId = postId;
+        this.isRead = isRead;
+        this.createdDate = createdDate;
+    }
+
 }
@@ -0,0 +1,16 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor //(알림 커서 페이지 응답)
+public class NotificationSliceResponseDto {
+
+    private List<NotificationResponseDto> notifications;
+    private Long nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int unreadCount; // 안 읽은 알림 수 (뱃지 표시용)
+}
@@ -0,0 +1,17 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor //(최근 댓글 목록 응답, JPQL 생성자 프로젝션)
+public class RecentCommentResponseDto {
+    private final Long commentId;
+    private final String contents;
+    private final String authorName; // 작성자 닉네임
+    private final LocalDateTime createDate;
+    private final Long postId;
+    private final String postTitle; // 댓글이 달린 게시글 제목 (프로필 화면 표시용)
+}
@@ -0,0 +1,11 @@
+package hacktip.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(안 읽은 알림 수 응답)
+public class UnreadCountResponseDto {
+
+    private int unreadCount;
+}
@@ -0,0 +1,18 @@
+package hacktip.demo.dto.exportDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor //(댓글 NDJSON 내보내기 한 줄 - JPQL 생성자 표현식 전용)
+public class CommentExportDto {
+
+    private Long commentId;
+    private Long postId;
+    private Long memberId;
+    private String author;
+    private String contents;
+    private LocalDateTime createDate;
+}
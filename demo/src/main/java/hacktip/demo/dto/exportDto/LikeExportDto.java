@@ -0,0 +1,12 @@
+package hacktip.demo.dto.exportDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(좋아요 NDJSON 내보내기 한 줄 - JPQL 생성자 표현식 전용)
+public class LikeExportDto {
+
+    private Long postId;
+    private Long memberId;
+}
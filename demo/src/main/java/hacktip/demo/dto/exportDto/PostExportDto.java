@@ -0,0 +1,24 @@
+package hacktip.demo.dto.exportDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+@Getter
+@AllArgsConstructor //(게시물 NDJSON 내보내기 한 줄 - JPQL 생성자 표현식 전용)
+public class PostExportDto {
+
+    private Long postId;
+    private Long memberId;
+    private String author;
+    private String category;
+    private String title;
+    private String content;
+    private int viewCount;
+    private int likesCount;
+    private int commentCount;
+    private String githubUrl;
+    private Timestamp createDate;
+    private Timestamp modifyDate;
+}
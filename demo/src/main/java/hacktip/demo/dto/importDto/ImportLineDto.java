@@ -0,0 +1,30 @@
+package hacktip.demo.dto.importDto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * [신규] 일괄 가져오기 NDJSON 한 줄
+ * type 에 따라 사용하는 필드가 다릅니다.
+ *  - post        : ref, email(작성자), category, title, content, githubUrl
+ *  - comment     : postRef 또는 postId, email(작성자), contents
+ *  - like        : postRef 또는 postId, email(누른 회원)
+ *  - memberStack : email, stackName
+ * (postRef 는 같은 파일 안의 post 줄에 적은 ref 값, postId 는 이미 DB에 있는 게시물 ID)
+ */
+@Getter
+@NoArgsConstructor
+public class ImportLineDto {
+
+    private String type;
+    private String ref;
+    private String postRef;
+    private Long postId;
+    private String email;
+    private String category;
+    private String title;
+    private String content;
+    private String githubUrl;
+    private String contents;
+    private String stackName;
+}
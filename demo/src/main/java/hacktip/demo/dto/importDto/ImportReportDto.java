@@ -0,0 +1,20 @@
+package hacktip.demo.dto.importDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor //(일괄 가져오기 결과)
+public class ImportReportDto {
+
+    private long posts;
+    private long comments;
+    private long likes;
+    private long memberStacks;
+    private long skipped;          // 형식 오류, 존재하지 않는 회원/게시물 등으로 건너뛴 줄
+    private List<String> errors;   // 건너뛴 이유 (앞쪽 일부만)
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
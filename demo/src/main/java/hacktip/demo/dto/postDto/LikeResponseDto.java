@@ -1,5 +1,6 @@
 package hacktip.demo.dto.postDto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,7 +9,10 @@ import lombok.Getter;
 public class LikeResponseDto {
 
     private int likesCount;
-    private boolean isLiked;
+
+    // boolean 필드를 isLiked 로 두면 JSON 에는 "liked" 로 나가므로, 필드는 liked 로 두고 이름을 고정
+    @JsonProperty("isLiked")
+    private boolean liked;
 
 
 }
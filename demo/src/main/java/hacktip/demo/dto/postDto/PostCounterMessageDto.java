@@ -0,0 +1,13 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(게시물 좋아요/댓글 수 실시간 알림 메시지, /topic/post/{postId})
+public class PostCounterMessageDto {
+
+    private Long postId;
+    private int likesCount;
+    private int commentCount;
+}
@@ -0,0 +1,13 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(게시물 상세 조회 시 매번 새로 읽는 카운터 값)
+public class PostCountsDto {
+
+    private int views;
+    private int likesCount;
+    private int commentCount;
+}
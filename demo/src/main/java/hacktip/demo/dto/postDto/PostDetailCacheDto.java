@@ -0,0 +1,34 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * [성능 개선] 게시물 상세 캐시 항목
+ * 모든 사용자에게 같은 값(제목, 본문, 작성자, 카테고리 등)만 담습니다.
+ * 자주 바뀌는 조회수/좋아요 수와 사용자별 isLiked 는 응답 시점에 따로 채웁니다.
+ */
+@Getter
+public class PostDetailCacheDto {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final Timestamp createDate;
+    private final String category;
+    private final String githubUrl;
+
+    // JPQL 생성자 표현식 전용 (PostRepository.findPostDetail 참고)
+    public PostDetailCacheDto(Long id, String title, String content, String author, Timestamp createDate,
+                              String category, String githubUrl) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.createDate = createDate;
+        this.category = category;
+        this.githubUrl = githubUrl;
+    }
+}
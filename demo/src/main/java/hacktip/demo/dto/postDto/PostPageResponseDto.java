@@ -0,0 +1,30 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter //(게시물 목록 페이지 응답)
+public class PostPageResponseDto {
+
+    private final List<PostSimpleResponseDto> posts;
+    private final int page;        // 0부터 시작
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean truncated; // [추가] 검색 후보 수 제한에 걸려 일부 결과가 빠졌는지 (true 면 totalElements 는 제한된 값)
+
+    public PostPageResponseDto(Page<PostSimpleResponseDto> page) {
+        this(page, false);
+    }
+
+    public PostPageResponseDto(Page<PostSimpleResponseDto> page, boolean truncated) {
+        this.posts = page.getContent();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+        this.truncated = truncated;
+    }
+}
@@ -0,0 +1,16 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+@Getter
+@AllArgsConstructor //(게시물 목록 조회 조건 - null 인 조건은 적용하지 않음)
+public class PostQueryCondition {
+
+    private String category;
+    private String author;
+    private Collection<Long> postIds; // 검색어로 걸러낸 게시물 ID
+    private PostSortType sort;
+}
@@ -1,6 +1,9 @@
 package hacktip.demo.dto.postDto;
 
 import hacktip.demo.domain.post.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import hacktip.demo.dto.CommentSliceResponseDto;
 import lombok.Getter;
 
 import java.sql.Timestamp;
@@ -16,10 +19,16 @@ public class PostResponseDto {
     private String author;
     private int views;
     private int likesCount;
+    private int commentCount;
     private Timestamp createDate;
     private String category;
     private String githubUrl;
-    private boolean isLiked;
+    @JsonProperty("isLiked") // (필드 이름이 isLiked 이면 JSON 에 "liked" 로 나가서 화면의 좋아요 상태가 항상 false 였음)
+    private boolean liked;
+
+    // [신규] ?embed=comments 로 요청한 경우에만 첫 댓글 페이지를 함께 담음 (아니면 JSON 에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CommentSliceResponseDto comments;
 
     /**
      * Post 엔티티를 PostResponseDto로 변환하는 생성자
@@ -36,7 +45,29 @@ public class PostResponseDto {
         this.githubUrl = post.getGithubUrl();
         this.category = post.getCategory().getCategoryName();
         this.likesCount = post.getLikesCount();
-        this.isLiked = isLiked; // 외부에서 받은 isLiked 상태를 설정
+        this.commentCount = post.getCommentCount();
+        this.liked = isLiked; // 외부에서 받은 isLiked 상태를 설정
+    }
+
+    /**
+     * [성능 개선] 캐시된 상세 정보 + 응답 시점에 읽은 카운터/사용자별 좋아요 여부로 변환
+     */
+    public PostResponseDto(PostDetailCacheDto detail, int views, int likesCount, int commentCount, boolean isLiked) {
+        this.id = detail.getId();
+        this.title = detail.getTitle();
+        this.content = detail.getContent();
+        this.author = detail.getAuthor();
+        this.views = views;
+        this.createDate = detail.getCreateDate();
+        this.githubUrl = detail.getGithubUrl();
+        this.category = detail.getCategory();
+        this.likesCount = likesCount;
+        this.commentCount = commentCount;
+        this.liked = isLiked;
+    }
+
+    public void embedComments(CommentSliceResponseDto comments) {
+        this.comments = comments;
     }
 
 }
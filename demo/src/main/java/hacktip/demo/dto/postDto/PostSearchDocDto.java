@@ -0,0 +1,13 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor //(검색 인덱스 구축용 - 게시물 ID, 제목, 본문만 조회)
+public class PostSearchDocDto {
+
+    private Long id;
+    private String title;
+    private String content;
+}
@@ -1,11 +1,9 @@
 package hacktip.demo.dto.postDto;
 
-import hacktip.demo.domain.post.Post;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.sql.Timestamp;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter //(게시물 목록 조회 응답)
 public class PostSimpleResponseDto {
@@ -19,19 +17,30 @@ public class PostSimpleResponseDto {
     private int commentCount;
     private int likesCount;
 
+    // [추가] 로그인한 사용자가 좋아요를 눌렀는지 (비로그인이면 항상 false)
+    @JsonProperty("isLiked")
+    private boolean liked;
+
 
     /**
-     * 목록 조회용 DTO 변환 생성자
+     * 목록 조회용 DTO 생성자 (JPQL 생성자 표현식 전용)
+     * [성능 개선] Post 엔티티를 만들지 않고, 작성자/카테고리 이름과 댓글/좋아요 수를
+     * 한 번의 쿼리로 바로 DTO에 담습니다. (PostRepository.POST_LIST_SELECT 참고)
      */
-    public PostSimpleResponseDto(Post post) {
-        this.id = post.getPostId();
-        this.title = post.getTitle();
-        this.author = post.getMember().getName(); // (Lazy Loading 주의)
-        this.views = post.getViewCount();
-        this.createDate = post.getCreateDate();
-        this.category = post.getCategory().getCategoryName();
-        this.commentCount = post.getCommentCount(); // [성능 개선] @Formula 필드 사용
-        this.likesCount = post.getLikesCount();
+    public PostSimpleResponseDto(Long id, String title, String author, int views, Timestamp createDate,
+                                 String category, int commentCount, int likesCount) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.views = views;
+        this.createDate = createDate;
+        this.category = category;
+        this.commentCount = commentCount;
+        this.likesCount = likesCount;
+    }
 
+    // 목록 조회 후 좋아요 여부를 한 번에 조회해서 채움 (PostService.applyLikedState)
+    public void markLiked() {
+        this.liked = true;
     }
 }
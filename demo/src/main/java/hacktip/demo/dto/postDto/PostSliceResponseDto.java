@@ -0,0 +1,15 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor //(게시물 피드 커서 페이지 응답)
+public class PostSliceResponseDto {
+
+    private List<PostSimpleResponseDto> posts;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
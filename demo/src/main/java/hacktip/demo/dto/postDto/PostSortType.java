@@ -0,0 +1,41 @@
+package hacktip.demo.dto.postDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [신규] 게시물 목록 정렬 기준
+ * 인기순 정렬은 POST 테이블의 비정규화 카운터 컬럼(+ 인덱스)을 그대로 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostSortType {
+
+    LATEST("p.createDate DESC, p.postId DESC"),
+    LIKES("p.likesCount DESC, p.postId DESC"),
+    VIEWS("p.viewCount DESC, p.postId DESC"),
+    COMMENTS("p.commentCount DESC, p.postId DESC");
+
+    private final String orderBy; // JPQL ORDER BY 절 (p = Post)
+
+    /**
+     * 요청 파라미터 -> 정렬 기준 (없으면 최신순, "popular" 는 좋아요순으로 처리)
+     * 지원하지 않는 값이면 400 Bad Request
+     */
+    public static PostSortType from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return LATEST;
+        }
+        if ("popular".equalsIgnoreCase(sort)) {
+            return LIKES;
+        }
+        for (PostSortType type : values()) {
+            if (type.name().equalsIgnoreCase(sort)) {
+                return type;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + sort);
+    }
+}
@@ -1,12 +1,76 @@
 package hacktip.demo.repository;
 
 import hacktip.demo.domain.Member;
+import hacktip.demo.domain.Role;
+import hacktip.demo.dto.MemberDto.ResponseUserDataDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
     boolean existsByName(String name);
     Optional<Member> findByEmail(String email);
+
+    // [신규] 안 읽은 알림 수 (PK 조회 1건, 알림 테이블을 세지 않음)
+    @Query("SELECT m.unreadNotificationCount FROM Member m WHERE m.memberId = :memberId")
+    Optional<Integer> findUnreadNotificationCount(@Param("memberId") Long memberId);
+
+    // [신규] 읽음 처리한 수만큼 감소 (0 아래로 내려가지 않음)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.unreadNotificationCount = " +
+            "CASE WHEN m.unreadNotificationCount > :count THEN m.unreadNotificationCount - :count ELSE 0 END " +
+            "WHERE m.memberId = :memberId")
+    int decreaseUnreadNotificationCount(@Param("memberId") Long memberId, @Param("count") int count);
+
+    // [추가] 안 읽은 알림 수 보정 작업용 - 현재 가장 큰 회원 ID
+    @Query("SELECT MAX(m.memberId) FROM Member m")
+    Long findMaxMemberId();
+
+    // [추가] 안 읽은 알림 수 보정 - [fromId, toId] 구간에서 실제 안 읽은 알림 수와 다른 행만 다시 계산
+    //  (게시글 삭제와 알림 발송이 겹치는 등 증감 연산만으로는 어긋날 수 있는 경우 대비)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE MEMBERS m SET m.UNREAD_NOTI_COUNT = " +
+            "(SELECT COUNT(*) FROM NOTIFICATION n WHERE n.RECEIVER_ID = m.MEMBERID AND n.IS_READ = 0) " +
+            "WHERE m.MEMBERID BETWEEN :fromId AND :toId " +
+            "AND m.UNREAD_NOTI_COUNT <> (SELECT COUNT(*) FROM NOTIFICATION n WHERE n.RECEIVER_ID = m.MEMBERID AND n.IS_READ = 0)",
+            nativeQuery = true)
+    int reconcileUnreadNotificationCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // [신규] 회원 목록 (기술 스택 없이 회원 행만, 엔티티를 만들지 않음)
+    @Query("SELECT new hacktip.demo.dto.MemberDto.ResponseUserDataDto(m.memberId, m.name, m.role) " +
+            "FROM Member m ORDER BY m.memberId")
+    List<ResponseUserDataDto> findAllUserData();
+
+    // [추가] 이름으로 회원 조회 (화면에 표시된 작성자/멘션 대상만, 이름은 UNIQUE)
+    @Query("SELECT new hacktip.demo.dto.MemberDto.ResponseUserDataDto(m.memberId, m.name, m.role) " +
+            "FROM Member m WHERE m.name IN :names ORDER BY m.memberId")
+    List<ResponseUserDataDto> findUserDataByNames(@Param("names") Collection<String> names);
+
+    /**
+     * [신규] 회원 목록 키셋 페이지 (회원 ID 오름차순)
+     * role, stackName 이 null 이면 해당 조건은 적용하지 않음
+     * 기술 스택 조건은 EXISTS 로 걸러서 회원 행이 스택 수만큼 늘어나지 않음
+     */
+    @Query("SELECT new hacktip.demo.dto.MemberDto.ResponseUserDataDto(m.memberId, m.name, m.role) " +
+            "FROM Member m " +
+            "WHERE m.memberId > :afterId " +
+            "AND (:role IS NULL OR m.role = :role) " +
+            "AND (:stackName IS NULL OR EXISTS (" +
+            "    SELECT 1 FROM MemberStack ms JOIN ms.techStack ts " +
+            "    WHERE ms.member = m AND ts.stackName = :stackName)) " +
+            "ORDER BY m.memberId")
+    List<ResponseUserDataDto> findUserDataPage(@Param("afterId") Long afterId,
+                                               @Param("role") Role role,
+                                               @Param("stackName") String stackName,
+                                               Pageable pageable);
 }
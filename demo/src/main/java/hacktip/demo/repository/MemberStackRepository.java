@@ -2,10 +2,13 @@ package hacktip.demo.repository;
 
 import hacktip.demo.domain.Member;
 import hacktip.demo.domain.MemberStack;
+import hacktip.demo.dto.MemberDto.MemberStackDto;
 import hacktip.demo.dto.PopularTechStackDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MemberStackRepository extends JpaRepository<MemberStack, Long> {
@@ -23,4 +26,17 @@ public interface MemberStackRepository extends JpaRepository<MemberStack, Long>
            "GROUP BY ts.stackName " +
            "ORDER BY COUNT(ms.member) DESC")
     List<PopularTechStackDto> findPopularTechStacks();
+
+    // [신규] 전체 회원의 기술 스택 (회원 목록 전체 조회용, TechStack 을 JOIN 해서 한 번에 조회)
+    @Query("SELECT new hacktip.demo.dto.MemberDto.MemberStackDto(ms.member.memberId, ts.stackId, ts.stackName) " +
+           "FROM MemberStack ms JOIN ms.techStack ts " +
+           "ORDER BY ms.member.memberId, ts.stackName")
+    List<MemberStackDto> findAllStackData();
+
+    // [신규] 한 페이지에 포함된 회원들의 기술 스택 (IN 목록 크기 = 페이지 크기)
+    @Query("SELECT new hacktip.demo.dto.MemberDto.MemberStackDto(ms.member.memberId, ts.stackId, ts.stackName) " +
+           "FROM MemberStack ms JOIN ms.techStack ts " +
+           "WHERE ms.member.memberId IN :memberIds " +
+           "ORDER BY ms.member.memberId, ts.stackName")
+    List<MemberStackDto> findStackDataByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
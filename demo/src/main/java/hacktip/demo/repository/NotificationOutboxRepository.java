@@ -0,0 +1,7 @@
+package hacktip.demo.repository;
+
+import hacktip.demo.domain.notification.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
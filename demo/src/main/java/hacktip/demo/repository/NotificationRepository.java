@@ -2,18 +2,62 @@ package hacktip.demo.repository;
 
 import hacktip.demo.domain.Member;
 import hacktip.demo.domain.notification.Notification;
+import hacktip.demo.dto.NotificationResponseDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    // [신규] 목록 조회용 DTO 프로젝션 (게시글을 조인하지 않고 외래키 값만 사용)
+    String NOTIFICATION_LIST_SELECT =
+            "SELECT new hacktip.demo.dto.NotificationResponseDto(n.id, n.message, n.post.postId, n.isRead, n.createdDate) " +
+            "FROM Notification n ";
+
     // 특정 회원의 읽지 않은 알림만 최신순으로 가져오기
     List<Notification> findAllByReceiverAndIsReadFalseOrderByCreatedDateDesc(Member receiver);
 
     // [신규] 읽음/안읽음 상관없이 회원의 모든 알림을 최신순 조회
     List<Notification> findAllByReceiverOrderByCreatedDateDesc(Member receiver);
 
-}
-
+    // [신규] 키셋 페이지네이션 - 첫 페이지 (알림 ID는 생성 순서대로 증가하므로 ID 내림차순 = 최신순)
+    @Query(NOTIFICATION_LIST_SELECT +
+            "WHERE n.receiver.memberId = :memberId ORDER BY n.id DESC")
+    List<NotificationResponseDto> findPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // [신규] 키셋 페이지네이션 - 커서(마지막으로 받은 알림 ID) 이후 페이지
+    @Query(NOTIFICATION_LIST_SELECT +
+            "WHERE n.receiver.memberId = :memberId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationResponseDto> findPageBefore(@Param("memberId") Long memberId,
+                                                 @Param("beforeId") Long beforeId,
+                                                 Pageable pageable);
+
+    // [신규] 알림 1건 읽음 처리 (이미 읽었거나 본인 알림이 아니면 0 반환)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id = :id AND n.receiver.memberId = :memberId AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    // [신규] upToId 이하의 안 읽은 알림을 UPDATE 한 번으로 읽음 처리 (처리한 건수 반환)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.receiver.memberId = :memberId AND n.isRead = false AND n.id <= :upToId")
+    int markAllRead(@Param("memberId") Long memberId, @Param("upToId") Long upToId);
+
+    // [신규] 게시글 삭제 시 외래키(ON DELETE CASCADE)로 같이 지워질 안 읽은 알림만큼 받는 사람들의 카운터 감소
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE MEMBERS m SET m.UNREAD_NOTI_COUNT = GREATEST(m.UNREAD_NOTI_COUNT - " +
+            "(SELECT COUNT(*) FROM NOTIFICATION n WHERE n.RECEIVER_ID = m.MEMBERID AND n.POST_ID = :postId AND n.IS_READ = 0), 0) " +
+            "WHERE m.MEMBERID IN (SELECT RECEIVER_ID FROM NOTIFICATION WHERE POST_ID = :postId AND IS_READ = 0)",
+            nativeQuery = true)
+    int decreaseUnreadCountForPost(@Param("postId") Long postId);
 
+}
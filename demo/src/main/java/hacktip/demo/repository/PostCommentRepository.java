@@ -1,11 +1,63 @@
 package hacktip.demo.repository;
 
 import hacktip.demo.domain.post.PostComment;
+import hacktip.demo.dto.CommentResponseDto;
+import hacktip.demo.dto.RecentCommentResponseDto;
+import hacktip.demo.dto.exportDto.CommentExportDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
+
+    // [성능 개선] 댓글 목록 프로젝션 (작성자 이름까지 쿼리 1번, IDX_COMMENT_POST 순서 그대로 읽음)
+    String COMMENT_LIST_SELECT = "SELECT new hacktip.demo.dto.CommentResponseDto(" +
+            "c.commentId, c.contents, m.name, c.createDate, c.post.postId) " +
+            "FROM PostComment c JOIN c.member m ";
+
+    String COMMENT_LIST_ORDER = " ORDER BY c.createDate ASC, c.commentId ASC";
+
     // 특정 게시글(PostId)에 해당하는 모든 댓글을 생성일 오름차순으로 조회
-    List<PostComment> findByPost_PostIdOrderByCreateDateAsc(Long postId);
-}
\ No newline at end of file
+    @Query(COMMENT_LIST_SELECT + "WHERE c.post.postId = :postId" + COMMENT_LIST_ORDER)
+    List<CommentResponseDto> findCommentList(@Param("postId") Long postId);
+
+    // [신규] 댓글 키셋(커서) 페이지 - 첫 페이지
+    @Query(COMMENT_LIST_SELECT + "WHERE c.post.postId = :postId" + COMMENT_LIST_ORDER)
+    List<CommentResponseDto> findCommentPage(@Param("postId") Long postId, Pageable pageable);
+
+    // [신규] 댓글 키셋(커서) 페이지 - 커서(마지막 댓글의 작성 시각, ID) 이후
+    @Query(COMMENT_LIST_SELECT + "WHERE c.post.postId = :postId " +
+            "AND (c.createDate > :createDate OR (c.createDate = :createDate AND c.commentId > :commentId))" +
+            COMMENT_LIST_ORDER)
+    List<CommentResponseDto> findCommentPageAfter(@Param("postId") Long postId,
+                                                  @Param("createDate") LocalDateTime createDate,
+                                                  @Param("commentId") Long commentId,
+                                                  Pageable pageable);
+
+    // [성능 개선] 최근 댓글 목록 (작성자 필터 선택, CommentId 키셋)
+    // 작성자 이름과 게시글 제목까지 DTO 프로젝션 한 번으로 조회 (댓글마다 Member/Post 지연 로딩하지 않음)
+    @Query("SELECT new hacktip.demo.dto.RecentCommentResponseDto(" +
+            "pc.commentId, pc.contents, m.name, pc.createDate, p.postId, p.title) " +
+            "FROM PostComment pc JOIN pc.member m JOIN pc.post p " +
+            "WHERE (:author IS NULL OR m.name = :author) " +
+            "AND (:beforeId IS NULL OR pc.commentId < :beforeId) " +
+            "ORDER BY pc.commentId DESC")
+    List<RecentCommentResponseDto> findRecentComments(@Param("author") String author,
+                                                      @Param("beforeId") Long beforeId,
+                                                      Pageable pageable);
+
+    // [신규] NDJSON 내보내기용 스트림 (DTO 프로젝션, fetch size 단위로 커서에서 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE))
+    @Query("SELECT new hacktip.demo.dto.exportDto.CommentExportDto(" +
+            "pc.commentId, pc.post.postId, m.memberId, m.name, pc.contents, pc.createDate) " +
+            "FROM PostComment pc JOIN pc.member m ORDER BY pc.commentId")
+    Stream<CommentExportDto> streamAllForExport();
+}
@@ -2,9 +2,18 @@ package hacktip.demo.repository;
 
 import hacktip.demo.domain.post.PostLike;
 import hacktip.demo.domain.post.PostLikeId;
+import hacktip.demo.dto.exportDto.LikeExportDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
     Optional<PostLike> findByPost_PostIdAndMember_MemberId(Long postId, Long memberId);
@@ -12,4 +21,21 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
 
     // [추가] 특정 사용자가 특정 게시물에 좋아요를 눌렀는지 존재 여부만 확인 (성능 최적화)
     boolean existsByPost_PostIdAndMember_MemberId(Long postId, Long memberId);
+
+    // [성능 개선] 회원이 좋아요한 게시물 ID 전체 (MemberLikeBitmapStore 가 비트맵으로 압축해서 캐시)
+    // (IDX_POST_LIKES_MEMBER 인덱스만 읽으므로 테이블 접근 없음)
+    @Query("SELECT pl.post.postId FROM PostLike pl WHERE pl.member.memberId = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    // [신규] NDJSON 내보내기용 스트림 (ID 두 개만 조회, fetch size 단위로 커서에서 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE))
+    @Query("SELECT new hacktip.demo.dto.exportDto.LikeExportDto(pl.post.postId, pl.member.memberId) " +
+            "FROM PostLike pl ORDER BY pl.post.postId, pl.member.memberId")
+    Stream<LikeExportDto> streamAllForExport();
+
+    // [성능 개선] 일괄 가져오기용 - 주어진 게시물/회원 사이에 이미 있는 좋아요 (청크당 IN 조회 한 번)
+    @Query("SELECT new hacktip.demo.dto.exportDto.LikeExportDto(pl.post.postId, pl.member.memberId) " +
+            "FROM PostLike pl WHERE pl.post.postId IN :postIds AND pl.member.memberId IN :memberIds")
+    List<LikeExportDto> findLikePairs(@Param("postIds") Collection<Long> postIds,
+                                      @Param("memberIds") Collection<Long> memberIds);
 }
\ No newline at end of file
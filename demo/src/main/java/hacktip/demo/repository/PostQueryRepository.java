@@ -0,0 +1,14 @@
+package hacktip.demo.repository;
+
+import hacktip.demo.dto.postDto.PostQueryCondition;
+import hacktip.demo.dto.postDto.PostSimpleResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * [신규] 조건이 요청마다 달라지는 게시물 목록 조회 (PostQueryRepositoryImpl 에서 JPQL 을 조립)
+ */
+public interface PostQueryRepository {
+
+    Page<PostSimpleResponseDto> findPostPage(PostQueryCondition condition, Pageable pageable);
+}
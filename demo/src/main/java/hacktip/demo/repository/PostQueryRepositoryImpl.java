@@ -0,0 +1,64 @@
+package hacktip.demo.repository;
+
+import hacktip.demo.dto.postDto.PostQueryCondition;
+import hacktip.demo.dto.postDto.PostSimpleResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private static final String COUNT_SELECT = "SELECT COUNT(p) FROM Post p JOIN p.member m LEFT JOIN p.category c ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 게시물 한 페이지 조회
+     *  - 목록 조회와 같은 프로젝션(POST_LIST_SELECT)을 사용하므로 엔티티를 로딩하지 않음
+     *  - 정렬 기준별 인덱스(IDX_POST_*)를 탈 수 있도록 ORDER BY 는 컬럼 + POSTID 로만 구성
+     */
+    @Override
+    public Page<PostSimpleResponseDto> findPostPage(PostQueryCondition condition, Pageable pageable) {
+        // 1. WHERE 절 조립 (값은 모두 바인딩 파라미터로 전달)
+        StringBuilder where = new StringBuilder("WHERE 1 = 1 ");
+        Map<String, Object> params = new HashMap<>();
+
+        if (condition.getCategory() != null) {
+            where.append("AND c.categoryName = :category ");
+            params.put("category", condition.getCategory());
+        }
+        if (condition.getAuthor() != null) {
+            where.append("AND m.name = :author ");
+            params.put("author", condition.getAuthor());
+        }
+        if (condition.getPostIds() != null) {
+            where.append("AND p.postId IN :postIds ");
+            params.put("postIds", condition.getPostIds());
+        }
+
+        // 2. 페이지 조회
+        TypedQuery<PostSimpleResponseDto> query = entityManager.createQuery(
+                PostRepository.POST_LIST_SELECT + where + "ORDER BY " + condition.getSort().getOrderBy(),
+                PostSimpleResponseDto.class);
+        params.forEach(query::setParameter);
+        List<PostSimpleResponseDto> posts = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 3. 전체 건수 (첫 페이지에서 이미 끝난 경우 등은 COUNT 쿼리를 생략)
+        return PageableExecutionUtils.getPage(posts, pageable, () -> {
+            TypedQuery<Long> countQuery = entityManager.createQuery(COUNT_SELECT + where, Long.class);
+            params.forEach(countQuery::setParameter);
+            return countQuery.getSingleResult();
+        });
+    }
+}
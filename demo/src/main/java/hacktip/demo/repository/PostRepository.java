@@ -1,18 +1,49 @@
 package hacktip.demo.repository;
 
+import hacktip.demo.domain.post.Category;
 import hacktip.demo.domain.post.Post;
 import hacktip.demo.dto.CategoryPostCountDto;
+import hacktip.demo.dto.exportDto.PostExportDto;
+import hacktip.demo.dto.postDto.PostCounterMessageDto;
+import hacktip.demo.dto.postDto.PostCountsDto;
+import hacktip.demo.dto.postDto.PostDetailCacheDto;
+import hacktip.demo.dto.postDto.PostSearchDocDto;
+import hacktip.demo.dto.postDto.PostSimpleResponseDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
-    // 2. (추가) 게시물 전체 목록 조회 (최신순 정렬)
-    //    JPA 쿼리 파생: 'CreateDate' 필드를 'Desc'(내림차순)로 정렬하여 'FindAll'
-    List<Post> findAllByOrderByCreateDateDesc();
+public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepository {
 
-    List<Post> findAllByCategory_CategoryNameOrderByCreateDateDesc(String categoryName);
+    // 내보내기(스트리밍) 조회 시 한 번에 가져올 행 수
+    String EXPORT_FETCH_SIZE = "500";
+
+    // [성능 개선] 목록 조회용 프로젝션 (Post 엔티티를 로딩하지 않음)
+    //  - 작성자 이름, 카테고리 이름은 JOIN 으로 함께 가져옴 (게시물마다 Lazy Loading 하지 않음)
+    //  - 댓글 수, 좋아요 수는 POST 테이블의 비정규화 카운터 컬럼을 그대로 사용 (서브쿼리/컬렉션 초기화 없음)
+    //  -> 목록 크기와 상관없이 SQL 1번
+    String POST_LIST_SELECT = "SELECT new hacktip.demo.dto.postDto.PostSimpleResponseDto(" +
+            "p.postId, p.title, m.name, p.viewCount, p.createDate, c.categoryName, p.commentCount, p.likesCount) " +
+            "FROM Post p JOIN p.member m LEFT JOIN p.category c ";
+
+    // 2. (수정) 게시물 전체 목록 조회 (최신순 정렬)
+    @Query(POST_LIST_SELECT + "ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findPostList();
+
+    @Query(POST_LIST_SELECT + "WHERE c.categoryName = :categoryName ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findPostListByCategoryName(@Param("categoryName") String categoryName);
 
     // [추가] 카테고리별 게시물 수 통계 조회
     @Query("SELECT new hacktip.demo.dto.CategoryPostCountDto(c.categoryName, COUNT(p)) " +
@@ -20,4 +51,114 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            "GROUP BY c.categoryName " +
            "ORDER BY COUNT(p) DESC")
     List<CategoryPostCountDto> countPostsByCategory();
+
+    // [신규] 피드 키셋 페이지네이션 (createDate DESC, postId DESC)
+    //  - 첫 페이지: 커서 없이 앞에서부터 pageable 크기만큼
+    //  - 다음 페이지: 이전 페이지 마지막 글의 (createDate, postId) 보다 "뒤"에 있는 글만 조회
+    //    -> OFFSET 을 쓰지 않으므로 테이블이 커져도 IDX_POST_FEED 인덱스 범위 스캔으로 일정한 시간에 조회됨
+    @Query(POST_LIST_SELECT + "ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findFeed(Pageable pageable);
+
+    @Query(POST_LIST_SELECT +
+           "WHERE p.createDate < :createDate OR (p.createDate = :createDate AND p.postId < :postId) " +
+           "ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findFeedAfter(@Param("createDate") Timestamp createDate, @Param("postId") Long postId, Pageable pageable);
+
+    // [신규] 카테고리별 피드 키셋 페이지네이션 (IDX_POST_CATEGORY_FEED 인덱스 사용)
+    @Query(POST_LIST_SELECT +
+           "WHERE p.category = :category " +
+           "ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findFeedByCategory(@Param("category") Category category, Pageable pageable);
+
+    @Query(POST_LIST_SELECT +
+           "WHERE p.category = :category " +
+           "AND (p.createDate < :createDate OR (p.createDate = :createDate AND p.postId < :postId)) " +
+           "ORDER BY p.createDate DESC, p.postId DESC")
+    List<PostSimpleResponseDto> findFeedByCategoryAfter(@Param("category") Category category, @Param("createDate") Timestamp createDate, @Param("postId") Long postId, Pageable pageable);
+
+    // [신규] 검색 결과 게시물 목록 조회 (순서는 서비스에서 검색 점수 순으로 맞춤)
+    @Query(POST_LIST_SELECT + "WHERE p.postId IN :postIds")
+    List<PostSimpleResponseDto> findPostListByIds(@Param("postIds") Collection<Long> postIds);
+
+    // [신규] 검색 인덱스 구축용 - ID 순으로 나눠서 제목/본문 조회
+    @Query("SELECT new hacktip.demo.dto.postDto.PostSearchDocDto(p.postId, p.title, p.content) " +
+            "FROM Post p WHERE p.postId > :lastId ORDER BY p.postId")
+    List<PostSearchDocDto> findSearchDocsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // [신규] 검색 인덱스 따라잡기용 - 기준 시각 이후 생성/수정된 게시물
+    @Query("SELECT new hacktip.demo.dto.postDto.PostSearchDocDto(p.postId, p.title, p.content) " +
+            "FROM Post p WHERE COALESCE(p.modifyDate, p.createDate) >= :since")
+    List<PostSearchDocDto> findSearchDocsModifiedSince(@Param("since") Timestamp since);
+
+    // [신규] 검색 인덱스 따라잡기용 - 현재 존재하는 게시물 ID
+    @Query("SELECT p.postId FROM Post p")
+    List<Long> findAllPostIds();
+
+    // [성능 개선] 일괄 가져오기용 - 주어진 ID 중 실제로 있는 게시물 ID (청크당 IN 조회 한 번)
+    @Query("SELECT p.postId FROM Post p WHERE p.postId IN :postIds")
+    List<Long> findExistingPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // [신규] NDJSON 내보내기용 스트림 (DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않음)
+    //  - fetch size 만큼씩 DB 커서에서 읽어오므로 테이블 크기와 상관없이 메모리 사용량이 일정
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT new hacktip.demo.dto.exportDto.PostExportDto(" +
+            "p.postId, m.memberId, m.name, c.categoryName, p.title, p.content, p.viewCount, p.likesCount, " +
+            "p.commentCount, p.githubUrl, p.createDate, p.modifyDate) " +
+            "FROM Post p JOIN p.member m LEFT JOIN p.category c ORDER BY p.postId")
+    Stream<PostExportDto> streamAllForExport();
+
+    // [신규] 게시물 상세 캐시에 담을 값 조회 (작성자/카테고리 이름까지 JOIN 으로 한 번에)
+    @Query("SELECT new hacktip.demo.dto.postDto.PostDetailCacheDto(" +
+            "p.postId, p.title, p.content, m.name, p.createDate, c.categoryName, p.githubUrl) " +
+            "FROM Post p JOIN p.member m LEFT JOIN p.category c WHERE p.postId = :postId")
+    Optional<PostDetailCacheDto> findPostDetail(@Param("postId") Long postId);
+
+    // [신규] 게시물 상세 조회 시 매번 새로 읽는 카운터 (PK 조회 1건, 본문/JOIN 없음)
+    @Query("SELECT new hacktip.demo.dto.postDto.PostCountsDto(p.viewCount, p.likesCount, p.commentCount) FROM Post p WHERE p.postId = :postId")
+    Optional<PostCountsDto> findPostCounts(@Param("postId") Long postId);
+
+    // [신규] 실시간 전송용 좋아요/댓글 수 (PostCounterPublisher 가 바뀐 게시물만 모아서 한 번에 조회)
+    @Query("SELECT new hacktip.demo.dto.postDto.PostCounterMessageDto(p.postId, p.likesCount, p.commentCount) " +
+            "FROM Post p WHERE p.postId IN :postIds")
+    List<PostCounterMessageDto> findCounterMessages(@Param("postIds") Collection<Long> postIds);
+
+    // [신규] 좋아요/댓글 카운터 원자적 증감
+    //  - "X = X + 1" 형태의 UPDATE 는 DB 가 행 잠금 안에서 계산하므로 동시 요청이 몰려도 값이 누락되지 않음
+    //  - 감소는 0 아래로 내려가지 않도록 조건을 둠
+    @Modifying
+    @Query("UPDATE Post p SET p.likesCount = p.likesCount + 1 WHERE p.postId = :postId")
+    int increaseLikesCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likesCount = p.likesCount - 1 WHERE p.postId = :postId AND p.likesCount > 0")
+    int decreaseLikesCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.postId = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    // [신규] 현재 좋아요 카운터 값 조회 (좋아요 토글 응답용)
+    @Query("SELECT p.likesCount FROM Post p WHERE p.postId = :postId")
+    int findLikesCountByPostId(@Param("postId") Long postId);
+
+    // [신규] 카운터 보정 작업용 - 현재 가장 큰 게시물 ID
+    @Query("SELECT MAX(p.postId) FROM Post p")
+    Long findMaxPostId();
+
+    // [신규] 카운터 보정 - [fromId, toId] 구간에서 실제 건수와 다른 행만 다시 계산
+    //  (구간 단위로 나눠서 실행하므로 한 번에 잠그는 행 수가 제한됨)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE POST p SET " +
+            "p.LIKE_COUNT = (SELECT COUNT(*) FROM POST_LIKES l WHERE l.POSTID = p.POSTID), " +
+            "p.COMMENT_COUNT = (SELECT COUNT(*) FROM POST_COMMENT c WHERE c.POSTID = p.POSTID) " +
+            "WHERE p.POSTID BETWEEN :fromId AND :toId " +
+            "AND (p.LIKE_COUNT <> (SELECT COUNT(*) FROM POST_LIKES l WHERE l.POSTID = p.POSTID) " +
+            "OR p.COMMENT_COUNT <> (SELECT COUNT(*) FROM POST_COMMENT c WHERE c.POSTID = p.POSTID))",
+            nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 }
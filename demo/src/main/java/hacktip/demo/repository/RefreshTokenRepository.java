@@ -2,15 +2,50 @@ package hacktip.demo.repository;
 
 import hacktip.demo.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 // 1. JpaRepository를 상속받습니다.
 //    <엔티티, ID의 타입> -> <RefreshToken, String>
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-    // 2. 실제 토큰 값(value)으로 엔티티를 찾는 메서드
-    //    (나중에 /reissue API에서 쿠키로 받은 토큰이 DB에 있는 유효한 토큰인지 검증할 때 필요)
-    Optional<RefreshToken> findByTokenValue(String tokenValue);
+    // 2. [변경] 로그인 시 토큰 저장 또는 갱신을 MERGE 한 번으로 처리 (조회 후 저장 X)
+    @Transactional
+    @Modifying
+    @Query(value = "MERGE INTO REFRESH_TOKENS t " +
+            "USING (SELECT :email AS USER_EMAIL FROM DUAL) s ON (t.USER_EMAIL = s.USER_EMAIL) " +
+            "WHEN MATCHED THEN UPDATE SET t.TOKEN_HASH = :tokenHash, t.EXPIRES_AT = :expiresAt " +
+            "WHEN NOT MATCHED THEN INSERT (USER_EMAIL, TOKEN_HASH, EXPIRES_AT) VALUES (:email, :tokenHash, :expiresAt)",
+            nativeQuery = true)
+    int upsert(@Param("email") String email,
+               @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 3. [신규] 토큰 교체 (/reissue) - DB의 해시가 요청한 토큰과 같을 때만 새 토큰으로 바꿈 (compare-and-set)
+    //    0 반환 = 이미 교체된(이전) 토큰 재사용 -> 탈취 의심
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.tokenHash = :newHash, t.expiresAt = :expiresAt " +
+            "WHERE t.email = :email AND t.tokenHash = :oldHash")
+    int rotate(@Param("email") String email,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 4. [신규] 조회 없이 바로 삭제 (로그아웃, 회원 탈퇴, 탈취 감지)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    // 5. [신규] 토큰 해시로 삭제 (유효하지 않은 토큰이 들어왔을 때, UK_REFRESH_TOKEN_HASH 인덱스 사용)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
 }
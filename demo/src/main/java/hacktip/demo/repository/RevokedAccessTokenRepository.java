@@ -0,0 +1,23 @@
+package hacktip.demo.repository;
+
+import hacktip.demo.domain.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    // 아직 만료되지 않은 폐기 토큰 (기동 시/주기적으로 메모리 목록에 반영)
+    List<RevokedAccessToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    // 만료된 행 삭제 (토큰 자체가 만료되었으므로 더 이상 막을 필요 없음)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
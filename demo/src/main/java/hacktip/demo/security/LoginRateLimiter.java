@@ -0,0 +1,120 @@
+package hacktip.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * [신규] 로그인/회원가입 요청 제한 (토큰 버킷)
+ * IP 별, 이메일 별로 버킷을 두고 토큰 1개씩 씁니다. 토큰은 분당 refill 개씩 다시 채워집니다.
+ * - IP 버킷: 요청마다 사용 -> 한 IP 의 대량 시도(크리덴셜 스터핑)를 BCrypt 실행 전에 막음 (429)
+ * - [수정] 이메일 버킷: 로그인에 실패했을 때만 사용하고, 요청 때는 남은 토큰이 있는지만 확인
+ *   (다른 사람이 올바른 비밀번호로 로그인하는 것만으로 계정이 잠기지 않도록, 반복 실패한 계정은 BCrypt 전에 거절)
+ *
+ * 버킷은 서버 메모리에만 있으며, 한동안 요청이 없는 키는 자동으로 제거됩니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String TOO_MANY_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final int ipCapacity;
+    private final double ipRefillPerNano;
+    private final int emailCapacity;
+    private final double emailRefillPerNano;
+
+    public LoginRateLimiter(@Value("${security.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login-rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                            @Value("${security.login-rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${security.login-rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                            @Value("${security.login-rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = ipRefillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerNano = emailRefillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                // 버킷이 가득 찰 만큼 시간이 지나면 새 버킷과 같으므로 제거해도 됨
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * 로그인 요청 (IP 버킷 사용 + 이메일 버킷은 실패 횟수가 남아 있는지만 확인)
+     */
+    public void checkLogin(String clientIp, String email) {
+        consume("ip:" + clientIp, ipCapacity, ipRefillPerNano);
+        if (email != null) {
+            TokenBucket bucket = buckets.getIfPresent(emailKey(email));
+            if (bucket != null && !bucket.hasToken(emailCapacity, emailRefillPerNano)) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * [추가] 로그인 실패 (가입되지 않은 이메일 / 비밀번호 불일치) 시 이메일 버킷에서 토큰 1개 사용
+     */
+    public void recordLoginFailure(String email) {
+        if (email != null) {
+            buckets.get(emailKey(email), k -> new TokenBucket(emailCapacity)).tryConsume(emailCapacity, emailRefillPerNano);
+        }
+    }
+
+    /**
+     * 회원가입 요청 (IP 버킷만 확인)
+     */
+    public void checkSignUp(String clientIp) {
+        consume("ip:" + clientIp, ipCapacity, ipRefillPerNano);
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    private void consume(String key, int capacity, double refillPerNano) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity));
+        if (!bucket.tryConsume(capacity, refillPerNano)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_MESSAGE);
+        }
+    }
+
+    // 남은 토큰 수 + 마지막으로 채운 시각 (토큰은 꺼낼 때 지난 시간만큼 한 번에 채움)
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity) {
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private synchronized boolean tryConsume(int capacity, double refillPerNano) {
+            refill(capacity, refillPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        // 토큰을 쓰지 않고 남아 있는지만 확인
+        private synchronized boolean hasToken(int capacity, double refillPerNano) {
+            refill(capacity, refillPerNano);
+            return tokens >= 1;
+        }
+
+        private void refill(int capacity, double refillPerNano) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
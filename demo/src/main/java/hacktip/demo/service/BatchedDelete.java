@@ -0,0 +1,42 @@
+package hacktip.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+/**
+ * 오래된 행을 batch-size 행씩 나눠서 삭제하는 도우미 (보관 기간이 지난 알림 정리, 만료된 Refresh Token 정리)
+ * (한 번에 지우면 언두/잠금이 커지므로 배치마다 따로 커밋, 남은 행은 다음 실행 때 이어서 삭제)
+ */
+@Slf4j
+public final class BatchedDelete {
+
+    private BatchedDelete() {
+    }
+
+    /**
+     * 트랜잭션 밖에서 호출해야 함 (문장마다 자동 커밋)
+     * @param sql  마지막 파라미터가 "ROWNUM <= ?" 인 DELETE 문 (batchSize 가 뒤에 붙음)
+     * @param args batchSize 앞의 파라미터
+     * @return 삭제한 행 수 (실패하면 로그를 남기고 그때까지 삭제한 행 수)
+     */
+    public static long run(JdbcTemplate jdbcTemplate, String sql, Object[] args, int batchSize, int maxBatches) {
+        Object[] params = Arrays.copyOf(args, args.length + 1);
+        params[args.length] = batchSize;
+
+        long total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                int deleted = jdbcTemplate.update(sql, params);
+                total += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("일괄 삭제 실패 (이번 실행에서 {}건 삭제): {}", total, sql, e);
+        }
+        return total;
+    }
+}
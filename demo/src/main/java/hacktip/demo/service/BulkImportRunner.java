@@ -0,0 +1,49 @@
+package hacktip.demo.service;
+
+import hacktip.demo.dto.importDto.ImportReportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * [신규] 명령줄 일괄 가져오기
+ * 사용법: java -jar demo.jar --import.file=/path/to/data.ndjson [--import.exit]
+ *  (--import.exit 를 주면 가져오기 후 서버를 종료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner {
+
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption("import.file")) {
+            return;
+        }
+
+        Path file = Paths.get(args.getOptionValues("import.file").get(0));
+        log.info("일괄 가져오기 시작: {}", file);
+        try (InputStream in = Files.newInputStream(file)) {
+            ImportReportDto report = bulkImportService.importNdjson(in);
+            log.info("일괄 가져오기 결과: {} rows/s, 건너뜀 {}건 {}",
+                    String.format("%.1f", report.getRowsPerSecond()), report.getSkipped(), report.getErrors());
+        }
+
+        if (args.containsOption("import.exit")) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
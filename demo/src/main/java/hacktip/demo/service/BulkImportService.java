@@ -0,0 +1,428 @@
+package hacktip.demo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hacktip.demo.domain.Member;
+import hacktip.demo.domain.MemberStack;
+import hacktip.demo.domain.TechStack;
+import hacktip.demo.domain.post.Category;
+import hacktip.demo.domain.post.Post;
+import hacktip.demo.domain.post.PostComment;
+import hacktip.demo.domain.post.PostLike;
+import hacktip.demo.dto.importDto.ImportLineDto;
+import hacktip.demo.dto.importDto.ImportReportDto;
+import hacktip.demo.repository.CategoryRepository;
+import hacktip.demo.repository.MemberRepository;
+import hacktip.demo.repository.MemberStackRepository;
+import hacktip.demo.repository.PostLikeRepository;
+import hacktip.demo.repository.PostRepository;
+import hacktip.demo.repository.TechStackRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * [신규] 다른 커뮤니티 데이터 일괄 가져오기 (NDJSON, 형식은 ImportLineDto 참고)
+ *  - chunkSize 줄마다 별도 트랜잭션으로 커밋 (실패해도 이전 청크는 유지, 트랜잭션이 길어지지 않음)
+ *  - 엔티티 ID는 pooled-lo 시퀀스로 50개씩 미리 할당받고, INSERT 는 JDBC 배치로 묶어서 전송
+ *    (hibernate.jdbc.batch_size / order_inserts 설정 참고)
+ *  - 좋아요/댓글 카운터는 마지막에 영향받은 게시물 구간만 다시 계산
+ *  - [성능 개선] 기존 게시물 존재 여부와 기존 좋아요는 청크마다 IN 조회로 한 번에 읽음 (줄마다 조회하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    // Oracle IN 목록 최대 1000개 제한보다 작게 나눠서 조회
+    private static final int IN_CHUNK = 500;
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final CategoryRepository categoryRepository;
+    private final TechStackRepository techStackRepository;
+    private final MemberStackRepository memberStackRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostCounterReconciler counterReconciler;
+    private final PostSearchIndex postSearchIndex;
+    private final MemberLikeBitmapStore likeBitmapStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bulk-import.chunk-size:1000}")
+    private int chunkSize;
+
+    // 가져오기 1회 동안 유지하는 상태 (조회 결과 캐시, 건수)
+    private static class ImportContext {
+        final Map<String, Long> postRefs = new HashMap<>();       // 파일 안의 ref -> 새 게시물 ID
+        final Map<String, Long> memberIds = new HashMap<>();      // 이메일 -> 회원 ID
+        final Map<String, Long> categoryIds = new HashMap<>();
+        final Map<String, Long> stackIds = new HashMap<>();
+        final Set<String> likeKeys = new HashSet<>();             // "게시물ID:회원ID" (파일 안 중복 + 이미 DB에 있는 좋아요)
+        final Map<Long, Boolean> existingPostIds = new HashMap<>(); // 기존 게시물 ID -> 존재 여부
+        final Map<Long, Set<Long>> memberStackIds = new HashMap<>(); // 회원 ID -> 보유 스택 ID
+        final List<String> errors = new ArrayList<>();
+        long minPostId = Long.MAX_VALUE;
+        long maxPostId = Long.MIN_VALUE;
+        // [추가] 커밋이 끝난 청크까지의 범위 (실패한 청크는 롤백되므로 제외)
+        long committedMinPostId = Long.MAX_VALUE;
+        long committedMaxPostId = Long.MIN_VALUE;
+        long committedLikes;
+        long posts;
+        long comments;
+        long likes;
+        long memberStacks;
+        long skipped;
+
+        void touchPost(long postId) {
+            minPostId = Math.min(minPostId, postId);
+            maxPostId = Math.max(maxPostId, postId);
+        }
+
+        void markCommitted() {
+            committedMinPostId = minPostId;
+            committedMaxPostId = maxPostId;
+            committedLikes = likes;
+        }
+
+        void skip(long lineNumber, String reason) {
+            skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+
+        long total() {
+            return posts + comments + likes + memberStacks;
+        }
+    }
+
+    private record NumberedLine(long lineNumber, String text) {
+    }
+
+    // dto 가 null 이면 JSON 형식 오류
+    private record ParsedLine(long lineNumber, ImportLineDto dto) {
+    }
+
+    /**
+     * NDJSON 스트림 가져오기
+     * @param in 한 줄에 ImportLineDto JSON 하나
+     * @return 건수 / 소요 시간 / 초당 처리 행 수
+     */
+    public ImportReportDto importNdjson(InputStream in) {
+        ImportContext context = new ImportContext();
+        long startNanos = System.nanoTime();
+
+        boolean completed = false;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<NumberedLine> chunk = new ArrayList<>(chunkSize);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new NumberedLine(lineNumber, line));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, context);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, context);
+            }
+            completed = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일을 읽는 중 오류가 발생했습니다. (" + context.total() + "행 커밋됨)", e);
+        } finally {
+            // [수정] 중간 청크가 실패해도 이미 커밋된 청크의 카운터/캐시는 맞춰 둠
+            applyCommittedChanges(context, completed);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        double rowsPerSecond = context.total() * 1000.0 / elapsedMillis;
+        log.info("일괄 가져오기 완료: 게시물 {}, 댓글 {}, 좋아요 {}, 기술 스택 {}, 건너뜀 {} ({}ms, {} rows/s)",
+                context.posts, context.comments, context.likes, context.memberStacks, context.skipped,
+                elapsedMillis, String.format("%.1f", rowsPerSecond));
+
+        return new ImportReportDto(context.posts, context.comments, context.likes, context.memberStacks,
+                context.skipped, context.errors, elapsedMillis, rowsPerSecond);
+    }
+
+    /**
+     * 커밋된 청크 범위의 좋아요/댓글 카운터 보정 + 좋아요 비트맵 캐시 무효화
+     * 가져오기가 실패해서 호출된 경우에는 원래 예외가 가려지지 않도록 보정 실패를 로그로만 남김
+     */
+    private void applyCommittedChanges(ImportContext context, boolean completed) {
+        try {
+            // 좋아요가 추가됐으면 캐시된 회원별 좋아요 비트맵을 다시 읽도록 함
+            if (context.committedLikes > 0) {
+                likeBitmapStore.invalidateAll();
+            }
+            // 좋아요/댓글이 추가된 게시물의 카운터 보정
+            if (context.committedMinPostId <= context.committedMaxPostId) {
+                counterReconciler.reconcileRange(context.committedMinPostId, context.committedMaxPostId);
+            }
+        } catch (RuntimeException e) {
+            if (completed) {
+                throw e;
+            }
+            log.error("가져오기 실패 후 카운터 보정에 실패했습니다. (게시물 ID {} ~ {})",
+                    context.committedMinPostId, context.committedMaxPostId, e);
+        }
+    }
+
+    // 청크 하나 = 트랜잭션 하나 (커밋 시 모아 둔 INSERT 가 배치로 전송됨)
+    private void importChunk(List<NumberedLine> chunk, ImportContext context) {
+        long committedRows = context.total();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ParsedLine> lines = chunk.stream().map(this::parse).toList();
+                prefetchExisting(lines, context);
+                for (ParsedLine line : lines) {
+                    importLine(line, context);
+                }
+                entityManager.flush();
+                entityManager.clear(); // 영속성 컨텍스트를 비워서 청크 수와 상관없이 메모리 사용량 일정
+            });
+            context.markCommitted();
+        } catch (RuntimeException e) {
+            // DB 제약조건 위반 등 -> 이 청크만 롤백되고, 이전 청크는 이미 커밋된 상태
+            throw new IllegalStateException(chunk.get(0).lineNumber() + "번째 줄부터 시작하는 청크를 저장하지 못했습니다. ("
+                    + committedRows + "행까지 커밋됨)", e);
+        }
+    }
+
+    private ParsedLine parse(NumberedLine line) {
+        try {
+            return new ParsedLine(line.lineNumber(), objectMapper.readValue(line.text(), ImportLineDto.class));
+        } catch (JsonProcessingException e) {
+            return new ParsedLine(line.lineNumber(), null);
+        }
+    }
+
+    /**
+     * [성능 개선] 청크가 참조하는 기존 게시물(postId)의 존재 여부와
+     * 그 게시물에 이미 있는 좋아요를 IN 조회로 미리 읽어서 캐시
+     * (줄마다 existsById / existsByPost_PostIdAndMember_MemberId 를 호출하지 않음)
+     */
+    private void prefetchExisting(List<ParsedLine> lines, ImportContext context) {
+        Set<Long> unknownPostIds = new HashSet<>();
+        for (ParsedLine line : lines) {
+            Long postId = existingPostIdOf(line.dto());
+            if (postId != null && !context.existingPostIds.containsKey(postId)) {
+                unknownPostIds.add(postId);
+            }
+        }
+        for (List<Long> postIds : partition(unknownPostIds)) {
+            postIds.forEach(postId -> context.existingPostIds.put(postId, false));
+            postRepository.findExistingPostIds(postIds).forEach(postId -> context.existingPostIds.put(postId, true));
+        }
+
+        Set<Long> likePostIds = new HashSet<>();
+        Set<Long> likeMemberIds = new HashSet<>();
+        for (ParsedLine line : lines) {
+            Long postId = existingPostIdOf(line.dto());
+            if (postId == null || !"like".equals(line.dto().getType())
+                    || !Boolean.TRUE.equals(context.existingPostIds.get(postId))) {
+                continue;
+            }
+            Long memberId = memberId(line.dto().getEmail(), context);
+            if (memberId != null) {
+                likePostIds.add(postId);
+                likeMemberIds.add(memberId);
+            }
+        }
+        // 이미 DB에 있는 좋아요는 파일 안 중복과 같은 방법으로 걸러짐
+        for (List<Long> postIds : partition(likePostIds)) {
+            for (List<Long> memberIds : partition(likeMemberIds)) {
+                postLikeRepository.findLikePairs(postIds, memberIds)
+                        .forEach(like -> context.likeKeys.add(like.getPostId() + ":" + like.getMemberId()));
+            }
+        }
+    }
+
+    // postRef 없이 postId 로 기존 게시물을 가리키는 줄이면 그 ID
+    private static Long existingPostIdOf(ImportLineDto dto) {
+        return (dto == null || dto.getPostRef() != null) ? null : dto.getPostId();
+    }
+
+    private static List<List<Long>> partition(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CHUNK) {
+            chunks.add(list.subList(from, Math.min(from + IN_CHUNK, list.size())));
+        }
+        return chunks;
+    }
+
+    private void importLine(ParsedLine line, ImportContext context) {
+        ImportLineDto dto = line.dto();
+        if (dto == null) {
+            context.skip(line.lineNumber(), "JSON 형식 오류");
+            return;
+        }
+
+        try {
+            switch (dto.getType() == null ? "" : dto.getType()) {
+                case "post" -> importPost(dto, context);
+                case "comment" -> importComment(dto, context);
+                case "like" -> importLike(dto, context);
+                case "memberStack" -> importMemberStack(dto, context);
+                default -> throw new IllegalArgumentException("알 수 없는 type: " + dto.getType());
+            }
+        } catch (IllegalArgumentException e) {
+            context.skip(line.lineNumber(), e.getMessage());
+        }
+    }
+
+    private void importPost(ImportLineDto dto, ImportContext context) {
+        if (isBlank(dto.getTitle()) || isBlank(dto.getContent())) {
+            throw new IllegalArgumentException("게시물 제목/내용이 비어 있습니다.");
+        }
+        Post post = Post.builder()
+                .member(memberReference(dto.getEmail(), context))
+                .title(dto.getTitle())
+                .content(dto.getContent())
+                .githubUrl(dto.getGithubUrl())
+                .category(categoryReference(dto.getCategory(), context))
+                .build();
+        entityManager.persist(post); // pooled-lo: ID 할당에 DB 왕복 없음 (50건마다 시퀀스 1번)
+
+        if (dto.getRef() != null) {
+            context.postRefs.put(dto.getRef(), post.getPostId());
+        }
+        context.touchPost(post.getPostId());
+        context.posts++;
+        postSearchIndex.indexAfterCommit(post.getPostId(), post.getTitle(), post.getContent());
+    }
+
+    private void importComment(ImportLineDto dto, ImportContext context) {
+        if (isBlank(dto.getContents())) {
+            throw new IllegalArgumentException("댓글 내용이 비어 있습니다.");
+        }
+        long postId = resolvePostId(dto, context);
+        PostComment comment = PostComment.builder()
+                .post(entityManager.getReference(Post.class, postId))
+                .member(memberReference(dto.getEmail(), context))
+                .contents(dto.getContents())
+                .build();
+        entityManager.persist(comment);
+
+        context.touchPost(postId);
+        context.comments++;
+    }
+
+    private void importLike(ImportLineDto dto, ImportContext context) {
+        long postId = resolvePostId(dto, context);
+        Member member = memberReference(dto.getEmail(), context);
+        Long memberId = context.memberIds.get(dto.getEmail());
+
+        // 같은 파일 안의 중복, 이미 DB에 있는 좋아요(prefetchExisting 에서 미리 넣어 둠)는 건너뜀
+        if (!context.likeKeys.add(postId + ":" + memberId)) {
+            throw new IllegalArgumentException("이미 좋아요한 게시물입니다.");
+        }
+
+        entityManager.persist(PostLike.builder()
+                .post(entityManager.getReference(Post.class, postId))
+                .member(member)
+                .build());
+
+        context.touchPost(postId);
+        context.likes++;
+    }
+
+    private void importMemberStack(ImportLineDto dto, ImportContext context) {
+        Member member = memberReference(dto.getEmail(), context);
+        Long memberId = context.memberIds.get(dto.getEmail());
+        Long stackId = context.stackIds.computeIfAbsent(String.valueOf(dto.getStackName()),
+                name -> techStackRepository.findByStackName(name).map(TechStack::getStackId).orElse(null));
+        if (stackId == null) {
+            throw new IllegalArgumentException("존재하지 않는 기술 스택입니다: " + dto.getStackName());
+        }
+
+        // 회원이 이미 가진 스택은 회원별로 한 번만 조회해서 캐시 (UNIQUE(MEMBERID, STACKID) 위반 방지)
+        Set<Long> ownedStackIds = context.memberStackIds.computeIfAbsent(memberId,
+                id -> memberStackRepository.findByMember_MemberId(id).stream()
+                        .map(memberStack -> memberStack.getTechStack().getStackId())
+                        .collect(Collectors.toCollection(HashSet::new)));
+        if (!ownedStackIds.add(stackId)) {
+            throw new IllegalArgumentException("이미 등록된 기술 스택입니다: " + dto.getStackName());
+        }
+
+        entityManager.persist(MemberStack.builder()
+                .member(member)
+                .techStack(entityManager.getReference(TechStack.class, stackId))
+                .build());
+        context.memberStacks++;
+    }
+
+    // postRef(같은 파일의 게시물) 또는 postId(기존 게시물)
+    private long resolvePostId(ImportLineDto dto, ImportContext context) {
+        if (dto.getPostRef() != null) {
+            Long postId = context.postRefs.get(dto.getPostRef());
+            if (postId == null) {
+                throw new IllegalArgumentException("앞에서 가져오지 않은 게시물 ref 입니다: " + dto.getPostRef());
+            }
+            return postId;
+        }
+        // 존재 여부는 prefetchExisting 에서 청크 단위로 미리 조회해 둠
+        if (dto.getPostId() != null && context.existingPostIds.computeIfAbsent(dto.getPostId(), postRepository::existsById)) {
+            return dto.getPostId();
+        }
+        throw new IllegalArgumentException("존재하지 않는 게시물입니다: " + dto.getPostId());
+    }
+
+    // 회원은 이메일로 한 번만 조회하고, 이후에는 프록시(getReference)만 사용
+    private Member memberReference(String email, ImportContext context) {
+        Long memberId = memberId(email, context);
+        if (memberId == null) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다: " + email);
+        }
+        return entityManager.getReference(Member.class, memberId);
+    }
+
+    private Long memberId(String email, ImportContext context) {
+        return (email == null) ? null : context.memberIds.computeIfAbsent(email,
+                key -> memberRepository.findByEmail(key).map(Member::getMemberId).orElse(null));
+    }
+
+    private Category categoryReference(String categoryName, ImportContext context) {
+        Long categoryId = (categoryName == null) ? null : context.categoryIds.computeIfAbsent(categoryName,
+                key -> categoryRepository.findByCategoryName(key).map(Category::getCategoryId).orElse(null));
+        if (categoryId == null) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다: " + categoryName);
+        }
+        return entityManager.getReference(Category.class, categoryId);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,22 +1,27 @@
 package hacktip.demo.service;
 
 import hacktip.demo.domain.Member;
+import hacktip.demo.domain.notification.NotificationType;
 import hacktip.demo.domain.post.Post;
 import hacktip.demo.domain.post.PostComment;
 import hacktip.demo.dto.CommentRequestDto;
 import hacktip.demo.dto.CommentResponseDto;
+import hacktip.demo.dto.CommentSliceResponseDto;
+import hacktip.demo.dto.KeysetCursor;
+import hacktip.demo.dto.RecentCommentResponseDto;
 import hacktip.demo.repository.MemberRepository;
 import hacktip.demo.repository.PostCommentRepository;
 import hacktip.demo.repository.PostRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.GetMapping;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,14 +32,35 @@ public class CommentService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository; // 작성자 정보를 위해 MemberRepository 주입
     private final NotificationService notificationService; //알림 서비스 주입
+    private final PostTrendingRanker trendingRanker;
+    private final PostCounterPublisher counterPublisher;
 
-    @GetMapping
-    public List<CommentResponseDto>findAll(){
-        List<PostComment> comments = commentRepository.findAll();
+    // 댓글 한 페이지의 기본 개수 / 클라이언트가 요청할 수 있는 최대 개수
+    @Value("${comment.page-size:20}")
+    private int commentPageSize;
 
-        return comments.stream()
-                .map(CommentResponseDto::new)
-                .toList();
+    @Value("${comment.max-page-size:100}")
+    private int commentMaxPageSize;
+
+    // 최근 댓글 목록 한 번에 내려줄 기본 개수 / 클라이언트가 요청할 수 있는 최대 개수
+    @Value("${comment.recent.page-size:20}")
+    private int recentPageSize;
+
+    @Value("${comment.recent.max-page-size:100}")
+    private int recentMaxPageSize;
+
+    /**
+     * [성능 개선] 최근 댓글 목록 조회 (최신순, CommentId 키셋)
+     * 전체 댓글을 엔티티로 읽지 않고 한 페이지만 DTO 프로젝션으로 조회합니다.
+     * @param author 작성자 닉네임 (null 이면 전체)
+     * @param beforeId 이전 페이지 마지막 댓글 ID (null 이면 첫 페이지)
+     * @param size 요청 개수 (1 ~ comment.recent.max-page-size)
+     * @return 댓글 목록
+     */
+    public List<RecentCommentResponseDto> getRecentComments(String author, Long beforeId, Integer size) {
+        int pageSize = (size == null || size <= 0) ? recentPageSize : Math.min(size, recentMaxPageSize);
+        String authorName = (author == null || author.isBlank()) ? null : author;
+        return commentRepository.findRecentComments(authorName, beforeId, PageRequest.of(0, pageSize));
     }
 
     /**
@@ -43,15 +69,38 @@ public class CommentService {
      * @return 댓글 목록
      */
     public List<CommentResponseDto> getComments(Long postId) {
-        // 게시글 존재 여부 확인 (선택적)
-        if (!postRepository.existsById(postId)) {
-            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        // [성능 개선] 작성자 이름까지 프로젝션 쿼리 1번으로 조회
+        List<CommentResponseDto> comments = commentRepository.findCommentList(postId);
+
+        // 댓글이 없을 때만 게시글 존재 여부 확인 (댓글이 있으면 게시글도 있음)
+        if (comments.isEmpty()) {
+            ensurePostExists(postId);
+        }
+        return comments;
+    }
+
+    /**
+     * [신규] 특정 게시글의 댓글 커서 페이지 조회 (작성 순)
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (null 이면 기본값)
+     */
+    public CommentSliceResponseDto getCommentPage(Long postId, String cursor, Integer size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        CommentSliceResponseDto slice = findCommentSlice(postId, keysetCursor, size);
+
+        if (keysetCursor == null && slice.getComments().isEmpty()) {
+            ensurePostExists(postId);
         }
+        return slice;
+    }
 
-        return commentRepository.findByPost_PostIdOrderByCreateDateAsc(postId)
-                .stream()
-                .map(CommentResponseDto::new) // PostComment 엔티티를 CommentResponseDto로 변환
-                .collect(Collectors.toList());
+    /**
+     * [신규] 게시글 상세 응답에 함께 담을 첫 댓글 페이지
+     * (게시글 존재 여부는 호출하는 쪽에서 이미 확인)
+     */
+    public CommentSliceResponseDto getFirstCommentPage(Long postId) {
+        return findCommentSlice(postId, null, null);
     }
 
     /**
@@ -75,13 +124,16 @@ public class CommentService {
                 .build();
 
         PostComment savedComment = commentRepository.save(comment);
+        postRepository.increaseCommentCount(postId); // [성능 개선] 댓글 수 카운터 원자적 증가
+        trendingRanker.recordCommentAfterCommit(postId, true); // [신규] 트렌딩 점수 반영
+        counterPublisher.markChangedAfterCommit(postId); // [신규] 댓글 수 실시간 전송
 
         // [추가] 알림 생성 로직
         // 게시글 작성자와 댓글 작성자가 다를 경우에만 알림 발송
         Member postWriter = post.getMember();
         if (!postWriter.getMemberId().equals(commenter.getMemberId())) {
-            String message = commenter.getName() + "님이 회원님의 게시글에 댓글을 남겼습니다.";
-            notificationService.send(postWriter, post, message);
+            // [성능 개선] 대기열에만 기록 (메시지는 처리기가 같은 게시글 알림을 합쳐서 만듦)
+            notificationService.enqueue(postWriter.getMemberId(), postId, NotificationType.COMMENT, commenter.getName());
         }
 
         return savedComment.getCommentId();
@@ -106,5 +158,34 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getPostId()); // [성능 개선] 댓글 수 카운터 원자적 감소
+        trendingRanker.recordCommentAfterCommit(comment.getPost().getPostId(), false); // [신규] 트렌딩 점수 되돌림
+        counterPublisher.markChangedAfterCommit(comment.getPost().getPostId()); // [신규] 댓글 수 실시간 전송
+    }
+
+    // pageSize + 1 건으로 조회해서 다음 페이지 존재 여부와 다음 커서를 계산
+    private CommentSliceResponseDto findCommentSlice(Long postId, KeysetCursor keysetCursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? commentPageSize : Math.min(size, commentMaxPageSize);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentResponseDto> comments = (keysetCursor == null)
+                ? commentRepository.findCommentPage(postId, limit)
+                : commentRepository.findCommentPageAfter(postId, keysetCursor.getCreateDate(), keysetCursor.getId(), limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentResponseDto> page = hasNext ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponseDto last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreateDate(), last.getCommentId()).encode();
+        }
+        return new CommentSliceResponseDto(page, nextCursor, hasNext);
+    }
+
+    private void ensurePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
     }
 }
\ No newline at end of file
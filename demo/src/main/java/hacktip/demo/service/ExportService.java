@@ -0,0 +1,75 @@
+package hacktip.demo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hacktip.demo.repository.PostCommentRepository;
+import hacktip.demo.repository.PostLikeRepository;
+import hacktip.demo.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * [신규] 분석용 NDJSON 내보내기
+ * DB 커서에서 읽은 행을 한 줄씩 JSON 으로 바꿔 바로 응답 스트림에 씁니다.
+ * (목록을 메모리에 모으지 않으므로 테이블 크기와 상관없이 힙 사용량이 일정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true) // 스트림을 다 읽을 때까지 커넥션/커서를 유지
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 1000; // 이 행 수마다 응답 버퍼를 클라이언트로 내보냄
+
+    private final PostRepository postRepository;
+    private final PostCommentRepository commentRepository;
+    private final PostLikeRepository likeRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportPosts(OutputStream out) {
+        try (Stream<?> rows = postRepository.streamAllForExport()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    public long exportComments(OutputStream out) {
+        try (Stream<?> rows = commentRepository.streamAllForExport()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    public long exportLikes(OutputStream out) {
+        try (Stream<?> rows = likeRepository.streamAllForExport()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    // 한 행 = JSON 한 줄 (NDJSON)
+    private long writeNdjson(Stream<?> rows, OutputStream out) {
+        ObjectWriter writer = objectMapper.writer();
+        long count = 0;
+        try {
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등 -> 트랜잭션(커서)도 함께 정리
+            throw new UncheckedIOException("NDJSON 내보내기 중단 (" + count + "행 전송)", e);
+        }
+        return count;
+    }
+}
@@ -1,56 +1,143 @@
 package hacktip.demo.service;
 
-import hacktip.demo.domain.Member;
-import hacktip.demo.domain.post.Post;
-import hacktip.demo.domain.post.PostLike;
 import hacktip.demo.dto.postDto.LikeResponseDto;
-import hacktip.demo.repository.MemberRepository;
-import hacktip.demo.repository.PostLikeRepository;
-import hacktip.demo.repository.PostRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.sql.Types;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
-    private final PostLikeRepository likeRepository;
-    private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
+    /**
+     * [성능 개선] 좋아요 등록 (PL/SQL 블록 1번 = DB 왕복 1번)
+     *  1. MERGE 로 없을 때만 INSERT (이미 있으면 아무것도 하지 않음 -> 멱등)
+     *  2. 실제로 INSERT 된 경우에만 LIKE_COUNT + 1, 바뀐 값을 RETURNING 으로 바로 받음
+     *  - 같은 회원의 요청이 동시에 들어오면 두 번째 MERGE 는 PK 잠금을 기다렸다가
+     *    DUP_VAL_ON_INDEX 가 나므로, 이미 좋아요한 것으로 처리 (PK 위반 오류가 사용자에게 나가지 않음)
+     *  - 게시물이 없으면(FK 위반 / NO_DATA_FOUND) 좋아요 수 -1 반환
+     *  - [수정] FK 위반인데 게시물은 있으면 회원이 없는 것 (탈퇴한 회원의 토큰 등) -> -2 반환
+     */
+    private static final String LIKE_SQL =
+            "DECLARE " +
+            "  v_post NUMBER := ?; " +
+            "  v_member NUMBER := ?; " +
+            "  v_count NUMBER; " +
+            "  v_changed NUMBER := 0; " +
+            "  v_post_exists NUMBER; " +
+            "  e_no_parent EXCEPTION; " +
+            "  PRAGMA EXCEPTION_INIT(e_no_parent, -2291); " +
+            "BEGIN " +
+            "  BEGIN " +
+            "    MERGE INTO POST_LIKES l " +
+            "    USING (SELECT v_post AS POSTID, v_member AS MEMBERID FROM DUAL) s " +
+            "    ON (l.POSTID = s.POSTID AND l.MEMBERID = s.MEMBERID) " +
+            "    WHEN NOT MATCHED THEN INSERT (POSTID, MEMBERID) VALUES (s.POSTID, s.MEMBERID); " +
+            "    IF SQL%ROWCOUNT > 0 THEN " +
+            "      v_changed := 1; " +
+            "      UPDATE POST SET LIKE_COUNT = LIKE_COUNT + 1 WHERE POSTID = v_post RETURNING LIKE_COUNT INTO v_count; " +
+            "    ELSE " +
+            "      SELECT LIKE_COUNT INTO v_count FROM POST WHERE POSTID = v_post; " +
+            "    END IF; " +
+            "  EXCEPTION " +
+            "    WHEN DUP_VAL_ON_INDEX THEN " +
+            "      SELECT LIKE_COUNT INTO v_count FROM POST WHERE POSTID = v_post; " +
+            "    WHEN e_no_parent THEN " +
+            "      SELECT COUNT(*) INTO v_post_exists FROM POST WHERE POSTID = v_post; " +
+            "      v_count := CASE WHEN v_post_exists = 0 THEN -1 ELSE -2 END; " +
+            "    WHEN NO_DATA_FOUND THEN " +
+            "      v_count := -1; " +
+            "  END; " +
+            "  ? := v_count; " +
+            "  ? := v_changed; " +
+            "END;";
 
+    /**
+     * [성능 개선] 좋아요 취소 (PL/SQL 블록 1번 = DB 왕복 1번)
+     *  - 실제로 삭제된 경우에만 LIKE_COUNT - 1 (없는 좋아요를 취소해도 그대로 -> 멱등)
+     */
+    private static final String UNLIKE_SQL =
+            "DECLARE " +
+            "  v_post NUMBER := ?; " +
+            "  v_member NUMBER := ?; " +
+            "  v_count NUMBER; " +
+            "  v_changed NUMBER := 0; " +
+            "BEGIN " +
+            "  BEGIN " +
+            "    DELETE FROM POST_LIKES WHERE POSTID = v_post AND MEMBERID = v_member; " +
+            "    IF SQL%ROWCOUNT > 0 THEN " +
+            "      v_changed := 1; " +
+            "      UPDATE POST SET LIKE_COUNT = LIKE_COUNT - 1 WHERE POSTID = v_post AND LIKE_COUNT > 0 " +
+            "      RETURNING LIKE_COUNT INTO v_count; " +
+            "    END IF; " +
+            "    IF v_count IS NULL THEN " +
+            "      SELECT LIKE_COUNT INTO v_count FROM POST WHERE POSTID = v_post; " +
+            "    END IF; " +
+            "  EXCEPTION " +
+            "    WHEN NO_DATA_FOUND THEN " +
+            "      v_count := -1; " +
+            "  END; " +
+            "  ? := v_count; " +
+            "  ? := v_changed; " +
+            "END;";
+
+    // LIKE_SQL / UNLIKE_SQL 이 좋아요 수 대신 돌려주는 값
+    private static final int NO_POST = -1;
+    private static final int NO_MEMBER = -2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostTrendingRanker trendingRanker;
+    private final MemberLikeBitmapStore likeBitmapStore;
+    private final PostCounterPublisher counterPublisher;
+
+    /**
+     * 좋아요 등록 (PUT - 여러 번 호출해도 결과가 같음)
+     * @param memberId 인증 토큰의 회원 ID (회원을 다시 조회하지 않음)
+     */
+    @Transactional
+    public LikeResponseDto like(Long postId, Long memberId) {
+        return execute(LIKE_SQL, postId, memberId, true);
+    }
+
+    /**
+     * 좋아요 취소 (DELETE - 여러 번 호출해도 결과가 같음)
+     */
     @Transactional
-    public LikeResponseDto toggleLike(Long postId, String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("해당 이메일의 회원을 찾을 수 없습니다: " + email));
-
-        // 1. 사용자가 해당 게시글에 이미 '좋아요'를 눌렀는지 확인
-        Optional<PostLike> likeOptional = likeRepository.findByPost_PostIdAndMember_MemberId(postId, member.getMemberId());
-
-        boolean isLiked;
-
-        if (likeOptional.isPresent()) {
-            // 2. '좋아요'가 이미 존재하면, 삭제 (좋아요 취소)
-            likeRepository.delete(likeOptional.get());
-            isLiked = false;
-        } else {
-            // 3. '좋아요'가 없으면, 생성 (좋아요 누르기)
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
-
-            PostLike newLike = PostLike.builder()
-                    .post(post)
-                    .member(member)
-                    .build();
-
-            likeRepository.save(newLike);
-            isLiked = true;
+    public LikeResponseDto unlike(Long postId, Long memberId) {
+        return execute(UNLIKE_SQL, postId, memberId, false);
+    }
+
+    private LikeResponseDto execute(String sql, Long postId, Long memberId, boolean liked) {
+        int[] result = jdbcTemplate.execute(sql, (CallableStatementCallback<int[]>) cs -> {
+            cs.setLong(1, postId);
+            cs.setLong(2, memberId);
+            cs.registerOutParameter(3, Types.INTEGER);
+            cs.registerOutParameter(4, Types.INTEGER);
+            cs.execute();
+            return new int[]{cs.getInt(3), cs.getInt(4)};
+        });
+
+        int likesCount = result[0];
+        boolean changed = result[1] == 1;
+        if (likesCount == NO_MEMBER) {
+            throw new EntityNotFoundException("해당 ID의 회원을 찾을 수 없습니다: " + memberId);
+        }
+        if (likesCount == NO_POST) {
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
+
+        // 상태가 실제로 바뀐 경우에만 트렌딩 점수 반영 (같은 요청 반복은 무시)
+        if (changed) {
+            trendingRanker.recordLikeAfterCommit(postId, liked);
+            counterPublisher.markChangedAfterCommit(postId); // [신규] 보고 있는 사용자에게 실시간 전송
         }
-        int likesCount = likeRepository.countByPost_PostId(postId);
-        // 4. 업데이트된 좋아요 수 반환
-        return new LikeResponseDto(likesCount, isLiked);
+        // 회원별 좋아요 비트맵 갱신 (이미 같은 상태면 그대로이므로 항상 호출해서 캐시와 DB를 맞춤)
+        likeBitmapStore.recordAfterCommit(memberId, postId, liked);
+        return new LikeResponseDto(likesCount, liked);
     }
-}
\ No newline at end of file
+}
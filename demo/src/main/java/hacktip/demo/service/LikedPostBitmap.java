@@ -0,0 +1,219 @@
+package hacktip.demo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * [신규] 한 회원이 좋아요한 게시물 ID 집합 (roaring bitmap 방식으로 압축)
+ * 게시물 ID 상위 비트(postId >>> 16)로 구간을 나누고, 구간마다
+ *  - 4096개 이하: 하위 16비트를 정렬된 char[] 로 저장 (ID 1개당 2바이트)
+ *  - 4096개 초과: 65536비트 비트맵 long[1024] 로 저장 (구간당 8KB 고정)
+ * 중 더 작은 쪽을 사용합니다.
+ *
+ * 변경하지 않는(immutable) 객체이므로 여러 요청이 잠금 없이 읽을 수 있고,
+ * with / without 은 바뀐 구간만 복사한 새 객체를 반환합니다.
+ */
+final class LikedPostBitmap {
+
+    static final LikedPostBitmap EMPTY = new LikedPostBitmap(new long[0], new Object[0], 0);
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024; // 65536 bits
+
+    private final long[] keys;          // 구간 번호 (오름차순)
+    private final Object[] containers;  // keys 와 같은 순서, char[] 또는 long[]
+    private final int cardinality;
+    private final int sizeInBytes;
+
+    private LikedPostBitmap(long[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+        this.sizeInBytes = estimateSize(keys, containers);
+    }
+
+    /**
+     * DB에서 읽은 게시물 ID 목록으로 생성 (정렬/중복 여부 상관없음)
+     */
+    static LikedPostBitmap of(long[] postIds) {
+        if (postIds.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = postIds.clone();
+        Arrays.sort(sorted);
+
+        List<Long> keyList = new ArrayList<>();
+        List<Object> containerList = new ArrayList<>();
+        int total = 0;
+        int start = 0;
+        while (start < sorted.length) {
+            long key = sorted[start] >>> 16;
+            int end = start;
+            while (end < sorted.length && (sorted[end] >>> 16) == key) {
+                end++;
+            }
+
+            char[] lows = new char[end - start];
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                char low = (char) sorted[i];
+                if (count == 0 || lows[count - 1] != low) {
+                    lows[count++] = low;
+                }
+            }
+            lows = Arrays.copyOf(lows, count);
+
+            keyList.add(key);
+            containerList.add(count > ARRAY_MAX ? toBitmap(lows) : lows);
+            total += count;
+            start = end;
+        }
+
+        long[] keys = keyList.stream().mapToLong(Long::longValue).toArray();
+        return new LikedPostBitmap(keys, containerList.toArray(), total);
+    }
+
+    boolean contains(long postId) {
+        int index = Arrays.binarySearch(keys, postId >>> 16);
+        return index >= 0 && containsLow(containers[index], (char) postId);
+    }
+
+    /**
+     * postId 를 추가한 새 비트맵 (이미 있으면 this)
+     */
+    LikedPostBitmap with(long postId) {
+        long key = postId >>> 16;
+        char low = (char) postId;
+        int index = Arrays.binarySearch(keys, key);
+
+        // 새 구간
+        if (index < 0) {
+            int at = -index - 1;
+            long[] newKeys = new long[keys.length + 1];
+            Object[] newContainers = new Object[containers.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(containers, 0, newContainers, 0, at);
+            newKeys[at] = key;
+            newContainers[at] = new char[]{low};
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(containers, at, newContainers, at + 1, containers.length - at);
+            return new LikedPostBitmap(newKeys, newContainers, cardinality + 1);
+        }
+
+        Object container = containers[index];
+        if (containsLow(container, low)) {
+            return this;
+        }
+
+        Object updated;
+        if (container instanceof char[] array) {
+            int at = -Arrays.binarySearch(array, low) - 1;
+            char[] grown = new char[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, at);
+            grown[at] = low;
+            System.arraycopy(array, at, grown, at + 1, array.length - at);
+            updated = grown.length > ARRAY_MAX ? toBitmap(grown) : grown;
+        } else {
+            long[] words = ((long[]) container).clone();
+            words[low >>> 6] |= 1L << low;
+            updated = words;
+        }
+        Object[] newContainers = containers.clone();
+        newContainers[index] = updated;
+        return new LikedPostBitmap(keys, newContainers, cardinality + 1);
+    }
+
+    /**
+     * postId 를 뺀 새 비트맵 (없으면 this)
+     */
+    LikedPostBitmap without(long postId) {
+        char low = (char) postId;
+        int index = Arrays.binarySearch(keys, postId >>> 16);
+        if (index < 0 || !containsLow(containers[index], low)) {
+            return this;
+        }
+
+        Object container = containers[index];
+        Object updated;
+        if (container instanceof char[] array) {
+            int at = Arrays.binarySearch(array, low);
+            char[] shrunk = new char[array.length - 1];
+            System.arraycopy(array, 0, shrunk, 0, at);
+            System.arraycopy(array, at + 1, shrunk, at, array.length - at - 1);
+            updated = shrunk;
+        } else {
+            long[] words = ((long[]) container).clone();
+            words[low >>> 6] &= ~(1L << low);
+            updated = toArrayIfSmall(words);
+        }
+
+        // 구간이 비었으면 구간 자체를 제거
+        if (updated instanceof char[] array && array.length == 0) {
+            long[] newKeys = new long[keys.length - 1];
+            Object[] newContainers = new Object[containers.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(containers, 0, newContainers, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(containers, index + 1, newContainers, index, containers.length - index - 1);
+            return new LikedPostBitmap(newKeys, newContainers, cardinality - 1);
+        }
+
+        Object[] newContainers = containers.clone();
+        newContainers[index] = updated;
+        return new LikedPostBitmap(keys, newContainers, cardinality - 1);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    // 대략적인 힙 사용량 (객체 헤더 + 배열), 캐시 메모리 한도 계산용
+    int sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private static boolean containsLow(Object container, char low) {
+        if (container instanceof char[] array) {
+            return Arrays.binarySearch(array, low) >= 0;
+        }
+        return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static long[] toBitmap(char[] lows) {
+        long[] words = new long[BITMAP_WORDS];
+        for (char low : lows) {
+            words[low >>> 6] |= 1L << low;
+        }
+        return words;
+    }
+
+    // 비트맵 구간의 원소가 ARRAY_MAX 이하로 줄면 다시 배열로 변환
+    private static Object toArrayIfSmall(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        if (count > ARRAY_MAX) {
+            return words;
+        }
+        char[] lows = new char[count];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                lows[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return lows;
+    }
+
+    private static int estimateSize(long[] keys, Object[] containers) {
+        long bytes = 32 + 16 + 8L * keys.length + 16 + 4L * containers.length;
+        for (Object container : containers) {
+            bytes += (container instanceof char[] array) ? 16 + 2L * array.length : 16 + 8L * BITMAP_WORDS;
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,84 @@
+package hacktip.demo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hacktip.demo.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * [성능 개선] 회원별 '좋아요한 게시물' 비트맵 캐시
+ * 처음 확인할 때 회원의 좋아요 목록을 한 번만 읽어서 압축 비트맵(LikedPostBitmap)으로 보관하고,
+ * 이후 "이 회원이 이 게시물을 좋아요했는가" 는 DB 조회 없이 메모리에서 바로 확인합니다.
+ *
+ * - 좋아요 등록/취소가 커밋되면 캐시에 있는 비트맵만 갱신 (없으면 다음 조회 때 새로 읽음)
+ * - 전체 크기가 post.like-bitmap.max-bytes 를 넘으면 덜 쓰이는 회원부터 제거
+ * - 메모리 사용량은 member.like.bitmap.bytes 지표, 적중률은 cache.gets 지표(cache=memberLikes)로 확인
+ */
+@Component
+public class MemberLikeBitmapStore {
+
+    private final PostLikeRepository postLikeRepository;
+    private final Cache<Long, LikedPostBitmap> cache;
+
+    public MemberLikeBitmapStore(PostLikeRepository postLikeRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${post.like-bitmap.max-bytes:33554432}") long maxBytes,
+                                 @Value("${post.like-bitmap.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.postLikeRepository = postLikeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long memberId, LikedPostBitmap bitmap) -> bitmap.sizeInBytes())
+                // 한동안 접속하지 않은 회원의 비트맵은 정리
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberLikes");
+        Gauge.builder("member.like.bitmap.bytes", cache, MemberLikeBitmapStore::weightedSize)
+                .description("캐시된 회원별 좋아요 비트맵의 메모리 사용량 (추정)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원이 게시물을 좋아요했는지 확인 (memberId 가 null 이면 비로그인 -> false)
+     */
+    public boolean isLiked(Long memberId, Long postId) {
+        return memberId != null && bitmapOf(memberId).contains(postId);
+    }
+
+    /**
+     * 회원의 비트맵 (캐시에 없으면 DB에서 읽어서 저장)
+     * 목록 화면처럼 여러 게시물을 확인할 때는 한 번 꺼내서 반복 사용
+     */
+    LikedPostBitmap bitmapOf(Long memberId) {
+        return cache.get(memberId, id -> LikedPostBitmap.of(
+                postLikeRepository.findPostIdsByMemberId(id).stream().mapToLong(Long::longValue).toArray()));
+    }
+
+    /**
+     * 좋아요 등록/취소가 커밋된 뒤 캐시에 있는 비트맵만 갱신
+     * (같은 회원의 비트맵을 읽는 중이면 읽기가 끝날 때까지 기다렸다가 적용되므로 변경이 누락되지 않음)
+     */
+    public void recordAfterCommit(Long memberId, Long postId, boolean liked) {
+        TransactionHooks.afterCommit(() -> cache.asMap().computeIfPresent(memberId,
+                (id, bitmap) -> liked ? bitmap.with(postId) : bitmap.without(postId)));
+    }
+
+    // 일괄 가져오기처럼 좋아요가 대량으로 바뀐 경우 전체를 버리고 다시 읽음
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static double weightedSize(Cache<Long, LikedPostBitmap> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> (double) eviction.weightedSize().orElse(0L))
+                .orElse(0.0);
+    }
+}
@@ -1,10 +1,12 @@
 package hacktip.demo.service;
 
 import hacktip.demo.config.jwt.JwtTokenProvider;
+import hacktip.demo.config.jwt.TokenHasher;
 import hacktip.demo.domain.*;
 import hacktip.demo.dto.*;
 import hacktip.demo.dto.MemberDto.MemberLoginRequestDto;
 import hacktip.demo.dto.MemberDto.MemberSignUpRequestDto;
+import hacktip.demo.dto.MemberDto.MemberSliceResponseDto;
 import hacktip.demo.dto.MemberDto.MemberStackDto;
 import hacktip.demo.dto.MemberDto.MemberSignUpResponseDto;
 import hacktip.demo.dto.MemberDto.ResponseUserDataDto;
@@ -12,17 +14,23 @@ import hacktip.demo.repository.MemberRepository;
 import hacktip.demo.repository.MemberStackRepository;
 import hacktip.demo.repository.RefreshTokenRepository;
 import hacktip.demo.repository.TechStackRepository;
+import hacktip.demo.security.LoginRateLimiter;
+import hacktip.demo.security.PasswordHashingExecutor;
 import hacktip.demo.security.UserDetailsImpl;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +38,8 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
 
@@ -41,11 +50,17 @@ public class MemberService {
     @Value("${jwt.refresh-token-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    @Value("${member.page-size:20}")
+    private int memberPageSize;
+
+    @Value("${member.max-page-size:100}")
+    private int memberMaxPageSize;
+
     // 회원가입
-    @Transactional
-    public MemberSignUpResponseDto signUp(MemberSignUpRequestDto request){
-        String encodedPassword = passwordEncoder.encode(request.getPassword()); //비밀번호 암호화
-        
+    // [성능 개선] 메서드 전체를 트랜잭션으로 묶지 않음 (BCrypt 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
+    public MemberSignUpResponseDto signUp(MemberSignUpRequestDto request, String clientIp){
+        // 0. [신규] IP 별 요청 제한 (BCrypt 실행 전에 거절)
+        loginRateLimiter.checkSignUp(clientIp);
 
         //이메일 중복 검사
         if(memberRepository.existsByEmail(request.getEmail())){
@@ -61,6 +76,9 @@ public class MemberService {
             throw new IllegalArgumentException("관리자 권한으로 가입할 수 없습니다.");
         }
 
+        // [성능 개선] 값싼 중복/권한 검사를 모두 통과한 뒤에만 비밀번호 암호화 (제한된 전용 스레드 풀에서 실행)
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
+
         // 4. [수정] Service에서 Entity 조립 (DTO.toEntity 삭제 대응)
         Member entity = Member.builder()
                 .email(request.getEmail())
@@ -74,9 +92,17 @@ public class MemberService {
         return new MemberSignUpResponseDto(savedMember.getMemberId(), savedMember.getEmail(), savedMember.getName());
     }
 
-    //회원 탈퇴
+    /**
+     * 회원 탈퇴
+     * 인증 정보는 Access Token 클레임으로 만들기 때문에 (회원 테이블을 조회하지 않음)
+     * 삭제된 회원이 이미 발급받은 Access Token 은 만료될 때까지 (최대 jwt.access-token-expiration-ms) 인증을 통과함
+     * -> Refresh Token 을 삭제해서 재발급은 막고, 그 사이 회원이 필요한 요청(글/댓글 작성 등)은 회원을 찾지 못해 실패함
+     * [추가] 본인 탈퇴는 요청에 사용된 Access Token 을 폐기 목록에 넣어서 바로 막음
+     *  (관리자가 다른 회원을 삭제하는 경우에는 그 회원의 토큰(jti)을 알 수 없으므로 위 기간이 그대로 남음)
+     * @param bearerToken 요청의 Authorization 헤더 값 (없으면 null)
+     */
     @Transactional
-    public void deleteMember(Long memberId, UserDetailsImpl requester){
+    public void deleteMember(Long memberId, UserDetailsImpl requester, String bearerToken){
 
         Member targetMember = memberRepository.findById(memberId).
                 orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
@@ -88,46 +114,51 @@ public class MemberService {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
 
-        //삭제 대상의 리프레시 토큰이 DB에 있으면 삭제
-        refreshTokenRepository.findById(targetMember.getEmail())
-                .ifPresent(refreshTokenRepository::delete);
+        //삭제 대상의 리프레시 토큰이 DB에 있으면 삭제 (조회 없이 DELETE 한 번)
+        refreshTokenRepository.deleteByEmail(targetMember.getEmail());
 
         memberRepository.delete(targetMember);
+
+        // [추가] 본인 탈퇴면 지금 쓰고 있는 Access Token 폐기 (삭제가 커밋된 뒤에만)
+        String accessToken = jwtTokenProvider.resolveToken(bearerToken);
+        if(isSelf && accessToken != null){
+            TransactionHooks.afterCommit(() -> jwtTokenProvider.revokeAccessToken(accessToken));
+        }
     }
 
     /**
      * 로그인 처리 (AT, RT 생성 및 RT 저장)
+     * [성능 개선] 트랜잭션으로 묶지 않음 (BCrypt 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록, RT 저장은 MERGE 한 번)
      * @param request 로그인 요청 DTO
+     * @param clientIp 요청한 클라이언트 IP (요청 제한용)
      * @return AT, RT, RT 만료 시간이 담긴 TokenInfo DTO
      */
-    @Transactional
-    public TokenInfo login(MemberLoginRequestDto request){
+    public TokenInfo login(MemberLoginRequestDto request, String clientIp){
+
+        // 0. [신규] IP 별 요청 제한 + 반복 실패한 이메일 거절 (DB 조회/BCrypt 실행 전에 거절)
+        loginRateLimiter.checkLogin(clientIp, request.getEmail());
 
         // 1. 이메일 기반으로 회원 조회
-        Member member = memberRepository.findByEmail(request.getEmail())
-                .orElseThrow(()->new IllegalArgumentException("가입되지 않은 이메일입니다."));
+        Member member = memberRepository.findByEmail(request.getEmail()).orElse(null);
+        if(member == null){
+            loginRateLimiter.recordLoginFailure(request.getEmail()); // [수정] 실패했을 때만 이메일 버킷 사용
+            throw new IllegalArgumentException("가입되지 않은 이메일입니다.");
+        }
 
         // 2. 비밀번호 일치 여부 확인
-        if(!passwordEncoder.matches(request.getPassword(), member.getPassword())){
+        //    [성능 개선] 요청 스레드가 아닌 제한된 전용 스레드 풀에서 실행 (가득 차면 바로 503)
+        if(!passwordHashingExecutor.matches(request.getPassword(), member.getPassword())){
+            loginRateLimiter.recordLoginFailure(request.getEmail());
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
         // 3. (수정) Access Token, Refresh Token 생성
-        String accessToken = jwtTokenProvider.createAccessToken(member.getEmail(), member.getRole().getKey());
+        String accessToken = jwtTokenProvider.createAccessToken(member);
         String refreshToken = jwtTokenProvider.createRefreshToken(member.getEmail());
 
         // 4. (추가) Refresh Token DB에 저장 (또는 갱신)
-        //    (사용자 이메일(PK)을 기준으로 토큰을 찾음)
-        Optional<RefreshToken> existingToken = refreshTokenRepository.findById(member.getEmail());
-
-        if(existingToken.isPresent()){
-            // 10. 기존 토큰이 있다면, 새 RT로 값(value)만 갱신
-            existingToken.get().updateToken(refreshToken);
-            refreshTokenRepository.save(existingToken.get());
-        } else {
-            RefreshToken newRefreshToken = new RefreshToken(member.getEmail(), refreshToken);
-            refreshTokenRepository.save(newRefreshToken);
-        }
+        //    [성능 개선] 조회 후 저장 대신 MERGE 한 번, 원본 토큰 대신 해시만 저장
+        refreshTokenRepository.upsert(member.getEmail(), TokenHasher.sha256(refreshToken), refreshTokenExpiresAt());
 
         // 5. (수정) TokenInfo DTO에 모든 토큰 정보와 만료 시간을 담아 반환
         return new TokenInfo(accessToken, refreshToken, refreshTokenExpirationMs);
@@ -137,16 +168,18 @@ public class MemberService {
     /**
      * 로그아웃 처리
      * @param email (인증된 사용자의 이메일)
+     * @param bearerToken (요청의 Authorization 헤더, "Bearer [AT]")
      */
     @Transactional
-    public void logout(String email){
-        // 1. 이메일(PK)을 사용하여 DB에서 Refresh Token 조회
-        Optional<RefreshToken> refreshTokenOptional = refreshTokenRepository.findById(email);
-
-        if(refreshTokenOptional.isPresent()){
-            refreshTokenRepository.delete(refreshTokenOptional.get());
-        } else{
-            // 클라이언트가 AT를 삭제했으므로 그냥 성공 처리.
+    public void logout(String email, String bearerToken){
+        // 1. 이메일(PK)로 DB의 Refresh Token 삭제 (조회 없이 DELETE 한 번)
+        //    (저장된 토큰이 없어도 클라이언트가 AT를 삭제했으므로 그냥 성공 처리)
+        refreshTokenRepository.deleteByEmail(email);
+
+        // 2. [신규] 요청에 사용된 Access Token 폐기 (만료 전까지 탈취된 AT로 접근하지 못하도록)
+        String accessToken = jwtTokenProvider.resolveToken(bearerToken);
+        if(accessToken != null){
+            jwtTokenProvider.revokeAccessToken(accessToken);
         }
     }
 
@@ -171,67 +204,139 @@ public class MemberService {
     }
 
     //모든 유저 정보 일부 가져오기
+    // [성능 개선] 회원마다 기술 스택을 따로 조회하던 것(N+1)을 회원 1번 + 기술 스택 1번 조회로 변경
     @Transactional(readOnly = true)
     public List<ResponseUserDataDto> findAllUsers() {
-        // 1. DB에서 모든 Member 엔티티를 가져옵니다.
-        List<Member> allMembers = memberRepository.findAll();
-
-        // 2. 각 Member를 ResponseUserDataDto로 변환합니다.
-        return allMembers.stream()
-                .map(member -> {
-                    // [수정] 각 멤버의 기술 스택을 DTO로 변환
-                    List<MemberStack> memberStackEntities = memberStackRepository.findByMember_MemberId(member.getMemberId());
-                    List<MemberStackDto> memberStackDtos = memberStackEntities.stream()
-                            .map(MemberStackDto::new)
-                            .collect(Collectors.toList());
-                    return new ResponseUserDataDto(member.getMemberId(), member.getName(), member.getRole(), memberStackDtos);
-                })
-                .collect(Collectors.toList());
+        List<ResponseUserDataDto> users = memberRepository.findAllUserData();
+        attachStacks(users, memberStackRepository.findAllStackData());
+        return users;
+    }
+
+    /**
+     * [신규] 회원 목록 (키셋 페이지네이션 + 역할/기술 스택 필터)
+     * 쿼리는 항상 2번 (회원 페이지 1번 + 그 회원들의 기술 스택 1번)
+     * @param cursor 이전 페이지의 nextCursor (마지막 회원 ID, 없으면 첫 페이지)
+     * @param role 역할 이름 ("취준생" 또는 "JOB_SEEKER" 형식, 없으면 전체)
+     * @param stack 기술 스택 이름 (없으면 전체)
+     */
+    @Transactional(readOnly = true)
+    public MemberSliceResponseDto findUserPage(Long cursor, Integer size, String role, String stack) {
+        int pageSize = (size == null || size <= 0) ? memberPageSize : Math.min(size, memberMaxPageSize);
+        Role roleFilter = (role == null || role.isBlank()) ? null : parseRoleFilter(role);
+        String stackFilter = (stack == null || stack.isBlank()) ? null : stack.trim();
+
+        List<ResponseUserDataDto> users = memberRepository.findUserDataPage(
+                cursor == null ? 0L : cursor, roleFilter, stackFilter,
+                PageRequest.of(0, pageSize + 1)); // 1건 더 조회해서 다음 페이지 존재 여부 확인
+
+        boolean hasNext = users.size() > pageSize;
+        List<ResponseUserDataDto> page = hasNext ? users.subList(0, pageSize) : users;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        if (!page.isEmpty()) {
+            List<Long> memberIds = page.stream().map(ResponseUserDataDto::getId).toList();
+            attachStacks(page, memberStackRepository.findStackDataByMemberIds(memberIds));
+        }
+        return new MemberSliceResponseDto(page, nextCursor, hasNext);
+    }
+
+    /**
+     * [추가] 이름으로 회원 조회 (게시글 작성자 역할 표시, 멘션 확인 등 화면에 필요한 회원만)
+     * -> 페이지마다 전체 회원 목록을 받지 않도록 함
+     * @param names 회원 이름 목록 (중복/빈 값은 제외, 최대 max-page-size 개)
+     */
+    @Transactional(readOnly = true)
+    public List<ResponseUserDataDto> findUsersByNames(List<String> names) {
+        List<String> distinctNames = names == null ? List.of() : names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+        if (distinctNames.size() > memberMaxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 회원은 최대 " + memberMaxPageSize + "명입니다.");
+        }
+
+        List<ResponseUserDataDto> users = memberRepository.findUserDataByNames(distinctNames);
+        if (!users.isEmpty()) {
+            List<Long> memberIds = users.stream().map(ResponseUserDataDto::getId).toList();
+            attachStacks(users, memberStackRepository.findStackDataByMemberIds(memberIds));
+        }
+        return users;
+    }
+
+    // [추가] 잘못된 역할 이름은 서버 오류(500)가 아니라 400 으로 응답
+    private static Role parseRoleFilter(String role) {
+        try {
+            return Role.parsing(role.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 회원 ID 기준으로 기술 스택을 회원 DTO 에 나눠 담음
+    private void attachStacks(List<ResponseUserDataDto> users, List<MemberStackDto> stacks) {
+        Map<Long, List<MemberStackDto>> stacksByMember = stacks.stream()
+                .collect(Collectors.groupingBy(MemberStackDto::getMemberId));
+        for (ResponseUserDataDto user : users) {
+            List<MemberStackDto> memberStacks = stacksByMember.get(user.getId());
+            if (memberStacks != null) {
+                user.getMemberStacks().addAll(memberStacks);
+            }
+        }
     }
 
     // 2. === [토큰 재발급 메서드 추가] ===
     /**
      * Refresh Token을 기반으로 새로운 Access Token을 재발급
+     * [변경] 재발급할 때마다 Refresh Token 도 새로 발급해서 교체 (rotation)
+     *  -> 이전 RT가 다시 들어오면 탈취로 보고 저장된 RT를 삭제 (정상 사용자도 다시 로그인해야 함)
+     * (탈취 감지 시 삭제가 예외와 함께 롤백되지 않도록 메서드 전체를 트랜잭션으로 묶지 않음,
+     *  각 저장소 메서드가 바로 커밋)
      * @param refreshToken (쿠키에서 추출한 RT)
-     * @return 새로운 Access Token이 담긴 DTO
+     * @return 새로운 Access Token, 새 Refresh Token, RT 만료 시간이 담긴 TokenInfo
      */
-    @Transactional
-    public TokenResponseDto reissueToken(String refreshToken){
+    public TokenInfo reissueToken(String refreshToken){
+        String oldHash = TokenHasher.sha256(refreshToken);
 
         // 1. (검증 1) Refresh Token 유효성 검증 (만료, 서명 등)
         if(!jwtTokenProvider.validateToken(refreshToken)){
             // (보안) 유효하지 않은 RT(만료, 위조 등)가 감지되면,
-            // DB에서 해당 RT를 즉시 삭제하여 2차 탈취 피해를 방지하는 로직을 추가할 수 있습니다.
-            refreshTokenRepository.findByTokenValue(refreshToken).ifPresent(refreshTokenRepository::delete);
+            // DB에서 해당 RT를 즉시 삭제하여 2차 탈취 피해를 방지 (해시 유니크 인덱스로 바로 삭제)
+            refreshTokenRepository.deleteByTokenHash(oldHash);
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
         // 2. (검증 2) Refresh Token에서 사용자 이메일(Email) 추출
         String email = jwtTokenProvider.getEmailFromToken(refreshToken);
 
-        // 3. (검증 3) DB에 저장된 Refresh Token과 대조
-        RefreshToken storedRefreshToken = refreshTokenRepository.findById(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자와 매핑된 Refresh Token이 없습니다. (로그아웃되었거나 탈취됨)"));
+        // 3. [변경] Access Token 재발급 시 회원 ID/이름/Role 정보가 필요함!
+        //    -> 이메일로 Member를 다시 조회해서 클레임에 담습니다.
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        // 4. (검증 4) (매우 중요) 쿠키의 RT와 DB의 RT가 일치하는지 확인
-        if(!storedRefreshToken.getTokenValue().equals(refreshToken)){
-            // (보안) DB의 값과 다르다는 것은, 이전에 발급된 RT(탈취된 RT)일 가능성이 높음
-            //       즉시 DB에서 해당 RT를 삭제하고 예외 발생
-            refreshTokenRepository.delete(storedRefreshToken);
-            throw new IllegalArgumentException("Refresh Token이 일치하지 않습니다. (탈취 시도 감지)");
+        // 4. (검증 3 + 교체) DB의 RT가 쿠키의 RT와 같을 때만 새 RT로 바꿈 (UPDATE 한 번, compare-and-set)
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
+        int rotated = refreshTokenRepository.rotate(email, oldHash, TokenHasher.sha256(newRefreshToken), refreshTokenExpiresAt());
+        if(rotated == 0){
+            // (보안) 로그아웃되었거나, 이미 교체된 이전 RT(탈취된 RT)일 가능성이 높음
+            //       즉시 DB에서 해당 사용자의 RT를 삭제하고 예외 발생
+            refreshTokenRepository.deleteByEmail(email);
+            throw new IllegalArgumentException("Refresh Token이 일치하지 않습니다. (로그아웃되었거나 탈취 시도 감지)");
         }
 
         // --- 모든 검증 통과 ---
-        // 5. [수정] Access Token 재발급 시 Role 정보가 필요함!
-        //    -> 이메일로 Member를 다시 조회해서 Role을 가져와야 합니다.
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        // 5. 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(email, member.getRole().getKey());
+        // 5. 새로운 Access Token 생성 후 새 RT와 함께 반환
+        String newAccessToken = jwtTokenProvider.createAccessToken(member);
+        return new TokenInfo(newAccessToken, newRefreshToken, refreshTokenExpirationMs);
+    }
 
-        // 6. 새 Access Token을 DTO에 담아 반환
-        return new TokenResponseDto(newAccessToken);
+    // 새로 발급하는 Refresh Token 의 만료 시각
+    private LocalDateTime refreshTokenExpiresAt(){
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshTokenExpirationMs));
     }
 
     @Transactional
@@ -0,0 +1,485 @@
+package hacktip.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import hacktip.demo.domain.notification.NotificationType;
+import hacktip.demo.dto.NotificationPushDto;
+import hacktip.demo.dto.NotificationResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [신규] 알림 대기열(NOTIFICATION_OUTBOX) 처리기
+ * 가상 스레드(virtual thread) 워커들이 대기열을 batch-size 단위로 꺼내서
+ * NOTIFICATION 행을 배치 INSERT 하고, 처리한 대기열 행을 같은 트랜잭션에서 삭제합니다.
+ *
+ * - 대기열 행은 FOR UPDATE SKIP LOCKED 로 잠그므로 워커/서버가 여러 개여도 같은 행을 동시에 처리하지 않음
+ * - 커밋 전에 실패하거나 서버가 죽으면 잠금이 풀리고 행이 그대로 남아서 다시 처리됨 (최소 한 번 발송)
+ * - [신규] 커밋된 알림은 받는 사람에게 STOMP(/user/queue/notifications)로 바로 전송 (폴링 불필요)
+ * - [신규] 받는 사람별 안 읽은 알림 수(MEMBERS.UNREAD_NOTI_COUNT)도 같은 트랜잭션에서 증가
+ * - [신규] 같은 게시글에 짧은 시간 동안 몰린 알림은 한 행으로 합침 ("OOO님 외 12건의 댓글...")
+ * - [추가] 배치가 실패하면 행 단위로 나눠서 다시 처리하고, 계속 실패하는 행은 ATTEMPTS 를 늘려서
+ *   max-attempts 에 도달하면 더 이상 꺼내지 않음 (한 행 때문에 대기열 전체가 막히지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    // Oracle 은 FOR UPDATE 와 ROWNUM / FETCH FIRST 를 함께 쓸 수 없으므로 maxRows 로 읽은 행만 잠금
+    // (실시간 전송 대상을 찾기 위해 받는 사람 이메일도 함께 조회, 잠그는 것은 대기열 행뿐)
+    private static final String CLAIM_SELECT =
+            "SELECT o.OUTBOX_ID, o.RECEIVER_ID, o.POST_ID, o.NOTI_TYPE, o.ACTOR_NAME, o.MESSAGE, o.CREATED_DATE, m.EMAIL " +
+            "FROM NOTIFICATION_OUTBOX o LEFT JOIN MEMBERS m ON m.MEMBERID = o.RECEIVER_ID ";
+
+    private static final String CLAIM_SQL = CLAIM_SELECT +
+            "WHERE o.ATTEMPTS < ? FOR UPDATE OF o.OUTBOX_ID SKIP LOCKED";
+
+    // [추가] 행 단위 재처리용
+    private static final String CLAIM_ONE_SQL = CLAIM_SELECT +
+            "WHERE o.OUTBOX_ID = ? AND o.ATTEMPTS < ? FOR UPDATE OF o.OUTBOX_ID SKIP LOCKED";
+
+    private static final String PENDING_IDS_SQL = "SELECT OUTBOX_ID FROM NOTIFICATION_OUTBOX WHERE ATTEMPTS < ?";
+
+    private static final String RECORD_FAILURE_SQL =
+            "UPDATE NOTIFICATION_OUTBOX SET ATTEMPTS = ATTEMPTS + 1, LAST_ERROR = ? WHERE OUTBOX_ID = ?";
+
+    // 다시 시도해도 성공할 수 없는 행 (알 수 없는 알림 종류 등)은 바로 max-attempts 로 표시
+    private static final String DEAD_LETTER_SQL =
+            "UPDATE NOTIFICATION_OUTBOX SET ATTEMPTS = ?, LAST_ERROR = ? WHERE OUTBOX_ID = ?";
+
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    // 전송 메시지에 알림 ID가 필요하므로 배치 크기만큼 시퀀스 값을 한 번에 받아 둠
+    private static final String NEXT_IDS_SQL = "SELECT SEQ_NOTI.NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?";
+
+    // 그 사이 게시글/회원이 삭제됐으면 SELECT 결과가 없어서 INSERT 되지 않음 (외래키 오류로 배치 전체가 실패하지 않도록)
+    private static final String INSERT_SQL =
+            "INSERT INTO NOTIFICATION (NOTIFICATION_ID, RECEIVER_ID, POST_ID, NOTI_TYPE, ACTOR_NAME, EVENT_COUNT, MESSAGE, IS_READ, CREATED_DATE) " +
+            "SELECT ?, m.MEMBERID, p.POSTID, ?, ?, ?, ?, 0, ? FROM POST p, MEMBERS m " +
+            "WHERE p.POSTID = ? AND m.MEMBERID = ?";
+
+    // [신규] 합칠 대상 조회: 시간 창 안의 안 읽은 알림 (잠가서 다른 워커/읽음 처리와 동시에 바뀌지 않도록 함)
+    private static final String COALESCE_TARGET_SQL =
+            "SELECT NOTIFICATION_ID, RECEIVER_ID, POST_ID, NOTI_TYPE, EVENT_COUNT FROM NOTIFICATION " +
+            "WHERE IS_READ = 0 AND CREATED_DATE >= ? AND (RECEIVER_ID, POST_ID) IN (%s) FOR UPDATE";
+
+    // Oracle IN 목록 최대 1000개 제한보다 작게 나눠서 조회
+    private static final int COALESCE_LOOKUP_CHUNK = 500;
+
+    // [수정] 합칠 대상은 지우고 새로 넣지 않고 그 행을 갱신하면서 새 ID를 부여
+    //  (목록은 ID 내림차순이므로 조회해도 실시간 전송과 같이 맨 위에 오고, 예전 ID로 일괄 읽음 처리해도 새 활동은 안 읽음으로 남음)
+    private static final String UPDATE_COALESCED_SQL =
+            "UPDATE NOTIFICATION SET NOTIFICATION_ID = ?, ACTOR_NAME = ?, EVENT_COUNT = ?, MESSAGE = ?, CREATED_DATE = ? " +
+            "WHERE NOTIFICATION_ID = ? AND IS_READ = 0";
+
+    private static final String CHANGE_UNREAD_SQL =
+            "UPDATE MEMBERS SET UNREAD_NOTI_COUNT = GREATEST(UNREAD_NOTI_COUNT + ?, 0) WHERE MEMBERID = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM NOTIFICATION_OUTBOX WHERE OUTBOX_ID = ?";
+
+    private static final String USER_DESTINATION = "/queue/notifications";
+
+    // type 은 DB 값을 모르는 경우 null (NotificationType.fromCode)
+    private record OutboxRow(long id, long receiverId, long postId, NotificationType type, String rawType,
+                             String actorName, String message, Timestamp createdDate, String receiverEmail) {
+    }
+
+    // [신규] 알림을 합치는 기준 (받는 사람 + 게시글 + 종류)
+    private record GroupKey(long receiverId, long postId, NotificationType type) {
+    }
+
+    // [신규] 한 행으로 합쳐질 알림 (이번 배치의 대기열 행들 + 교체할 기존 알림)
+    private static final class Group {
+        private final GroupKey key;
+        private OutboxRow latest;       // 가장 최근에 발생한 대기열 행
+        private int eventCount;         // 이번 배치에서 합쳐진 건수
+        private Long replacedId;        // 합칠 기존 알림 ID (없으면 null, 있으면 이 행을 새 ID로 갱신)
+        private int previousCount;      // 합칠 기존 알림에 이미 합쳐져 있던 건수
+        private long notificationId;    // 이번에 부여한 알림 ID (새 행 / 갱신된 행 모두 새 ID)
+
+        private Group(GroupKey key) {
+            this.key = key;
+        }
+
+        private int totalCount() {
+            return previousCount + eventCount;
+        }
+
+        // 행위자 정보가 없는 (이전 버전에서 쌓인) 대기열 행은 저장된 메시지를 그대로 사용
+        private String message() {
+            return latest.actorName() == null ? latest.message() : key.type().messageOf(latest.actorName(), totalCount());
+        }
+    }
+
+    // 커밋 후 전송할 알림 (STOMP 사용자 이름 = 이메일)
+    private record Push(String receiverEmail, NotificationResponseDto notification, int unreadDelta, Long replacedId) {
+    }
+
+    private record BatchResult(int claimed, List<Push> pushes) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${notification.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${notification.outbox.workers:2}")
+    private int workers;
+
+    // 대기열이 비었을 때 다시 확인하는 주기 (새 알림이 커밋되면 바로 깨어남)
+    @Value("${notification.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    // [추가] 이 횟수만큼 실패한 대기열 행은 더 이상 처리하지 않음
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // [신규] 이 시간 안에 만들어진 안 읽은 알림에는 같은 게시글의 새 알림을 합침
+    @Value("${notification.coalesce-window:1h}")
+    private Duration coalesceWindow;
+
+    private final Semaphore wakeUp = new Semaphore(0);
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-outbox-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::runLoop);
+        }
+    }
+
+    /**
+     * 대기열에 행을 추가한 트랜잭션이 커밋되면 워커를 깨움
+     */
+    public void wakeUpAfterCommit() {
+        TransactionHooks.afterCommit(wakeUp::release);
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                // 한 번에 가득 처리했으면 남은 행이 있을 수 있으므로 바로 다음 배치
+                if (dispatchBatch() < batchSize) {
+                    wakeUp.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("알림 대기열 처리 실패, {}ms 후 다시 시도합니다.", pollIntervalMillis, e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 대기열 한 배치 처리
+     * @return 처리한 대기열 행 수
+     */
+    int dispatchBatch() {
+        try {
+            return dispatch(con -> {
+                PreparedStatement ps = con.prepareStatement(CLAIM_SQL);
+                ps.setInt(1, maxAttempts);
+                ps.setMaxRows(batchSize);
+                ps.setFetchSize(batchSize);
+                return ps;
+            });
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e; // DB 연결 문제 등은 행 탓이 아니므로 runLoop 에서 잠시 후 다시 시도
+            }
+            log.warn("알림 대기열 배치 처리 실패, 행 단위로 나눠서 다시 처리합니다.", e);
+            return dispatchOneByOne();
+        }
+    }
+
+    /**
+     * [추가] 배치가 실패했을 때 행마다 별도 트랜잭션으로 처리
+     * 실패한 행은 ATTEMPTS 를 1 늘리고 오류를 기록 (나머지 행은 정상 발송)
+     * @return 성공한 행 수 (실패한 행은 poll-interval 뒤에 다시 시도되도록 세지 않음)
+     */
+    private int dispatchOneByOne() {
+        List<Long> ids = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(PENDING_IDS_SQL);
+            ps.setInt(1, maxAttempts);
+            ps.setMaxRows(batchSize);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+
+        int dispatched = 0;
+        for (Long id : ids) {
+            try {
+                dispatched += dispatch(con -> {
+                    PreparedStatement ps = con.prepareStatement(CLAIM_ONE_SQL);
+                    ps.setLong(1, id);
+                    ps.setInt(2, maxAttempts);
+                    return ps;
+                });
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                log.error("알림 대기열 행 처리 실패: outboxId={} (최대 {}회 시도)", id, maxAttempts, e);
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update(RECORD_FAILURE_SQL, truncate(String.valueOf(e)), id));
+            }
+        }
+        return dispatched;
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= LAST_ERROR_LENGTH ? value : value.substring(0, LAST_ERROR_LENGTH);
+    }
+
+    /**
+     * 대기열 행을 잠그고 NOTIFICATION 으로 옮긴 뒤 삭제 (한 트랜잭션), 커밋되면 받는 사람에게 실시간 전송
+     * [신규] 같은 받는 사람 + 게시글 + 종류의 알림은 한 행으로 합침
+     *  1. 배치 안에서 먼저 합치고
+     *  2. coalesce-window 안에 만들어진 안 읽은 알림이 이미 있으면 그 행의 건수/메시지/행위자/시각을 갱신
+     *     ([수정] 새 ID를 부여해서 목록 맨 위로 올림, 안 읽은 알림 수는 그대로)
+     * @param claim 처리할 대기열 행을 잠그는 쿼리 (배치 / 한 행)
+     * @return 처리한 대기열 행 수
+     */
+    private int dispatch(PreparedStatementCreator claim) {
+        BatchResult result = transactionTemplate.execute(status -> {
+            List<OutboxRow> claimed = jdbcTemplate.query(claim, (rs, rowNum) -> new OutboxRow(
+                    rs.getLong("OUTBOX_ID"), rs.getLong("RECEIVER_ID"), rs.getLong("POST_ID"),
+                    NotificationType.fromCode(rs.getString("NOTI_TYPE")), rs.getString("NOTI_TYPE"), rs.getString("ACTOR_NAME"),
+                    rs.getString("MESSAGE"), rs.getTimestamp("CREATED_DATE"), rs.getString("EMAIL")));
+
+            if (claimed.isEmpty()) {
+                return new BatchResult(0, List.of());
+            }
+
+            // [추가] 알 수 없는 알림 종류는 발송하지 않고 dead letter 로 표시 (대기열에서 계속 꺼내지 않도록)
+            List<OutboxRow> unknown = claimed.stream().filter(row -> row.type() == null).toList();
+            if (!unknown.isEmpty()) {
+                log.error("알 수 없는 알림 종류라서 발송하지 않습니다: {}", unknown.stream()
+                        .map(row -> row.id() + "=" + row.rawType()).toList());
+                jdbcTemplate.batchUpdate(DEAD_LETTER_SQL, unknown, unknown.size(), (ps, row) -> {
+                    ps.setInt(1, maxAttempts);
+                    ps.setString(2, truncate("unknown NOTI_TYPE: " + row.rawType()));
+                    ps.setLong(3, row.id());
+                });
+            }
+            List<OutboxRow> rows = unknown.isEmpty() ? claimed : claimed.stream().filter(row -> row.type() != null).toList();
+            if (rows.isEmpty()) {
+                return new BatchResult(claimed.size(), List.of());
+            }
+
+            List<Group> groups = groupRows(rows);
+            attachCoalesceTargets(groups);
+
+            List<Long> notificationIds = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, groups.size());
+            for (int i = 0; i < groups.size(); i++) {
+                groups.get(i).notificationId = notificationIds.get(i);
+            }
+
+            List<Group> merged = groups.stream().filter(g -> g.replacedId != null).toList();
+            List<Group> fresh = groups.stream().filter(g -> g.replacedId == null).toList();
+
+            // [수정] 합칠 대상이 있는 그룹은 기존 행을 새 ID로 갱신 (잠가 둔 행이므로 그 사이 읽음 처리되지 않음)
+            int[] updated = merged.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(UPDATE_COALESCED_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Group group = merged.get(i);
+                    OutboxRow latest = group.latest;
+                    ps.setLong(1, group.notificationId);
+                    ps.setString(2, latest.actorName());
+                    ps.setInt(3, group.totalCount());
+                    ps.setString(4, group.message());
+                    ps.setTimestamp(5, latest.createdDate());
+                    ps.setLong(6, group.replacedId);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return merged.size();
+                }
+            });
+
+            int[] inserted = fresh.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Group group = fresh.get(i);
+                    OutboxRow latest = group.latest;
+                    ps.setLong(1, group.notificationId);
+                    ps.setString(2, group.key.type().name());
+                    ps.setString(3, latest.actorName());
+                    ps.setInt(4, group.totalCount());
+                    ps.setString(5, group.message());
+                    ps.setTimestamp(6, latest.createdDate());
+                    ps.setLong(7, group.key.postId());
+                    ps.setLong(8, group.key.receiverId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return fresh.size();
+                }
+            });
+            jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.id()));
+
+            // 실제로 반영된 알림만 집계/전송 (0 = 게시글/회원 삭제로 건너뜀, 드라이버가 건수를 모르면 음수)
+            // 안 읽은 수는 새 행만 +1 (갱신된 행은 원래 안 읽은 알림이므로 그대로)
+            // 받는 사람 ID 순으로 UPDATE 해서 워커끼리 회원 행을 서로 다른 순서로 잠그지 않도록 함 (교착 방지)
+            Map<Long, Integer> unreadDeltas = new TreeMap<>();
+            List<Push> pushes = new ArrayList<>(groups.size());
+            for (int i = 0; i < merged.size(); i++) {
+                Group group = merged.get(i);
+                if (updated[i] != 0) {
+                    addPush(pushes, group, 0);
+                }
+            }
+            for (int i = 0; i < fresh.size(); i++) {
+                Group group = fresh.get(i);
+                if (inserted[i] != 0) {
+                    unreadDeltas.merge(group.key.receiverId(), 1, Integer::sum);
+                    addPush(pushes, group, 1);
+                }
+            }
+            jdbcTemplate.batchUpdate(CHANGE_UNREAD_SQL, new ArrayList<>(unreadDeltas.entrySet()),
+                    unreadDeltas.size(), (ps, entry) -> {
+                        ps.setInt(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    });
+            return new BatchResult(claimed.size(), pushes);
+        });
+
+        if (result == null) {
+            return 0;
+        }
+        result.pushes().forEach(this::push);
+        return result.claimed();
+    }
+
+    // 갱신된 알림은 replacedId 가 예전 ID (받은 쪽에서 예전 항목을 빼고 새 ID로 맨 위에 표시)
+    private static void addPush(List<Push> pushes, Group group, int unreadDelta) {
+        if (group.latest.receiverEmail() == null) {
+            return;
+        }
+        pushes.add(new Push(group.latest.receiverEmail(), new NotificationResponseDto(group.notificationId,
+                group.message(), group.key.postId(), false, group.latest.createdDate().toLocalDateTime()),
+                unreadDelta, group.replacedId));
+    }
+
+    // 배치 안의 같은 키 행들을 합침 (가장 최근에 발생한 행의 행위자/시각을 사용)
+    private static List<Group> groupRows(List<OutboxRow> rows) {
+        Map<GroupKey, Group> groups = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            GroupKey key = new GroupKey(row.receiverId(), row.postId(), row.type());
+            Group group = groups.computeIfAbsent(key, Group::new);
+            group.eventCount++;
+            if (group.latest == null || row.createdDate().after(group.latest.createdDate())) {
+                group.latest = row;
+            }
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * 합칠 대상(이미 있는 안 읽은 알림)을 잠그고 각 그룹에 연결
+     * (RECEIVER_ID, POST_ID) IN ((?, ?), ...) 로 한 번에 조회, 키가 같은 행이 여러 개면 가장 최근 행과 합침
+     */
+    private void attachCoalesceTargets(List<Group> groups) {
+        Map<GroupKey, Group> byKey = new HashMap<>();
+        groups.forEach(group -> byKey.put(group.key, group));
+        Timestamp windowStart = Timestamp.from(Instant.now().minus(coalesceWindow));
+
+        for (int from = 0; from < groups.size(); from += COALESCE_LOOKUP_CHUNK) {
+            List<Group> chunk = groups.subList(from, Math.min(from + COALESCE_LOOKUP_CHUNK, groups.size()));
+            String sql = COALESCE_TARGET_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")));
+            jdbcTemplate.query(sql, ps -> {
+                ps.setTimestamp(1, windowStart);
+                int index = 2;
+                for (Group group : chunk) {
+                    ps.setLong(index++, group.key.receiverId());
+                    ps.setLong(index++, group.key.postId());
+                }
+            }, rs -> {
+                GroupKey key = new GroupKey(rs.getLong("RECEIVER_ID"), rs.getLong("POST_ID"),
+                        NotificationType.fromCode(rs.getString("NOTI_TYPE")));
+                Group group = byKey.get(key); // 모르는 종류(null)면 합칠 대상 없음
+                long id = rs.getLong("NOTIFICATION_ID");
+                if (group != null && (group.replacedId == null || id > group.replacedId)) {
+                    group.replacedId = id;
+                    group.previousCount = rs.getInt("EVENT_COUNT");
+                }
+            });
+        }
+    }
+
+
+    // 접속 중이 아니면 브로커가 버림 (다음 접속 때 목록 조회로 받아감)
+    private void push(Push push) {
+        try {
+            messagingTemplate.convertAndSendToUser(push.receiverEmail(), USER_DESTINATION,
+                    new NotificationPushDto(push.notification(), push.unreadDelta(), push.replacedId()));
+        } catch (RuntimeException e) {
+            log.warn("알림 실시간 전송 실패: notificationId={}", push.notification().getId(), e);
+        }
+    }
+
+    // 서버 종료 시 워커 정지 (처리 중인 배치는 커밋되거나 롤백되어 다음 기동 때 다시 처리)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        wakeUp.release(workers);
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
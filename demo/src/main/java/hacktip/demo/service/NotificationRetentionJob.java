@@ -0,0 +1,49 @@
+package hacktip.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * [신규] 오래된 읽은 알림 정리
+ * retention 기간이 지난 "읽은" 알림을 batch-size 행씩 나눠서 삭제합니다. (BatchedDelete)
+ * (안 읽은 알림은 지우지 않으므로 안 읽은 수 카운터는 그대로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    // IDX_NOTI_READ_DATE (IS_READ, CREATED_DATE) 인덱스 범위 스캔 후 앞에서 batch-size 행만 삭제
+    private static final String PURGE_SQL =
+            "DELETE FROM NOTIFICATION WHERE IS_READ = 1 AND CREATED_DATE < ? AND ROWNUM <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${notification.retention.period:30d}")
+    private Duration retentionPeriod;
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번 실행할 때 최대 배치 수 (남은 행은 다음 실행 때 이어서 삭제)
+    @Value("${notification.retention.max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(initialDelayString = "${notification.retention.initial-delay-ms:60000}",
+            fixedDelayString = "${notification.retention.interval-ms:3600000}")
+    public void purge() {
+        Timestamp threshold = Timestamp.from(Instant.now().minus(retentionPeriod));
+        long total = BatchedDelete.run(jdbcTemplate, PURGE_SQL, new Object[]{threshold}, batchSize, maxBatches);
+        if (total > 0) {
+            log.info("오래된 읽은 알림 {}건 삭제 (기준: {} 이전)", total, threshold);
+        }
+    }
+}
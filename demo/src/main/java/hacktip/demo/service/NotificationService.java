@@ -2,11 +2,17 @@ package hacktip.demo.service;
 
 import hacktip.demo.domain.Member;
 import hacktip.demo.domain.notification.Notification;
-import hacktip.demo.domain.post.Post;
+import hacktip.demo.domain.notification.NotificationOutbox;
+import hacktip.demo.domain.notification.NotificationType;
 import hacktip.demo.dto.NotificationResponseDto;
+import hacktip.demo.dto.NotificationSliceResponseDto;
+import hacktip.demo.repository.MemberRepository;
+import hacktip.demo.repository.NotificationOutboxRepository;
 import hacktip.demo.repository.NotificationRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,16 +26,31 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutboxDispatcher outboxDispatcher;
+    private final MemberRepository memberRepository;
 
-    // 알림 생성 (댓글 서비스에서 호출)
+    @Value("${notification.page-size:20}")
+    private int notificationPageSize;
+
+    @Value("${notification.max-page-size:100}")
+    private int notificationMaxPageSize;
+
+    /**
+     * 알림 생성 (댓글 서비스에서 호출)
+     * [성능 개선] 호출한 트랜잭션 안에서는 대기열(outbox)에 한 행만 추가하고,
+     * 실제 알림 생성은 NotificationOutboxDispatcher 가 커밋 이후에 일괄 처리
+     */
     @Transactional
-    public void send(Member receiver, Post post, String content) {
-        Notification notification = Notification.builder()
-                .receiver(receiver)
-                .post(post)
-                .message(content)
+    public void enqueue(Long receiverId, Long postId, NotificationType type, String actorName) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .postId(postId)
+                .type(type)
+                .actorName(actorName)
                 .build();
-        notificationRepository.save(notification);
+        outboxRepository.save(outbox);
+        outboxDispatcher.wakeUpAfterCommit();
     }
 
     // 내 알림 목록 조회
@@ -42,18 +63,76 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    // 알림 읽음 처리
+    /**
+     * [신규] 내 알림 목록 (키셋 페이지네이션, 최신순)
+     * @param cursor 이전 페이지의 nextCursor (마지막으로 받은 알림 ID, 없으면 첫 페이지)
+     */
+    public NotificationSliceResponseDto getMyNotificationPage(Long memberId, Long cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? notificationPageSize : Math.min(size, notificationMaxPageSize);
+        PageRequest limit = PageRequest.of(0, pageSize + 1); // 1건 더 조회해서 다음 페이지 존재 여부 확인
+
+        List<NotificationResponseDto> notifications = (cursor == null)
+                ? notificationRepository.findPage(memberId, limit)
+                : notificationRepository.findPageBefore(memberId, cursor, limit);
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<NotificationResponseDto> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        return new NotificationSliceResponseDto(page, nextCursor, hasNext, getUnreadCount(memberId));
+    }
+
+    // [신규] 안 읽은 알림 수 (회원 행의 카운터만 읽음)
+    public int getUnreadCount(Long memberId) {
+        return memberRepository.findUnreadNotificationCount(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 회원입니다."));
+    }
+
+    /**
+     * 알림 읽음 처리
+     * [성능 개선] 조회 + 변경 감지 대신 조건부 UPDATE 한 번 (안 읽은 본인 알림일 때만 1건 변경)
+     */
     @Transactional
-    public void readNotification(Long notificationId, Member member) throws AccessDeniedException {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 알림입니다."));
+    public void readNotification(Long notificationId, Long memberId) throws AccessDeniedException {
+        if (notificationRepository.markRead(notificationId, memberId) == 1) {
+            memberRepository.decreaseUnreadNotificationCount(memberId, 1);
+            return;
+        }
+
+        // 변경된 행이 없으면 원인 확인 (이미 읽은 알림이면 그대로 성공)
+        // [수정] 이미 지워진 알림 (게시글 삭제 / 보관 기간 경과 / 다른 알림에 합쳐져 ID가 바뀜)도 읽은 것으로 간주
+        //  (화면에 남아 있던 알림을 눌러도 오류가 나지 않도록)
+        Notification notification = notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            return;
+        }
 
         // 본인의 알림인지 확인
-        if (!notification.getReceiver().getMemberId().equals(member.getMemberId())) {
+        if (!notification.getReceiver().getMemberId().equals(memberId)) {
             throw new AccessDeniedException("해당 알림에 접근 권한이 없습니다.");
         }
+    }
 
-        notification.read(); // 엔티티 내의 isRead = true 처리 메서드 호출
+    /**
+     * [신규] 일괄 읽음 처리 (UPDATE 한 번)
+     * @param upToId 이 ID 이하의 알림만 읽음 처리 (화면에 표시된 최신 알림 ID, 없으면 전체)
+     *               -> 목록을 본 뒤에 도착한 알림은 안 읽음으로 남음
+     * @return 남은 안 읽은 알림 수
+     */
+    @Transactional
+    public int readAll(Long memberId, Long upToId) {
+        int updated = notificationRepository.markAllRead(memberId, upToId == null ? Long.MAX_VALUE : upToId);
+        if (updated > 0) {
+            memberRepository.decreaseUnreadNotificationCount(memberId, updated);
+        }
+        return getUnreadCount(memberId);
+    }
+
+    // [신규] 게시글 삭제 직전에 호출 (같은 트랜잭션), 함께 삭제될 안 읽은 알림 수만큼 카운터 감소
+    // (이 사이에 같은 게시글 알림이 발송되어 생기는 차이는 NotificationUnreadReconciler 가 보정)
+    @Transactional
+    public void beforePostDeleted(Long postId) {
+        notificationRepository.decreaseUnreadCountForPost(postId);
     }
 
 }
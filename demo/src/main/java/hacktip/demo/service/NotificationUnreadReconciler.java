@@ -0,0 +1,56 @@
+package hacktip.demo.service;
+
+import hacktip.demo.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * [추가] 회원별 안 읽은 알림 수(MEMBERS.UNREAD_NOTI_COUNT) 보정 작업
+ * 평소에는 NotificationOutboxDispatcher / NotificationService 가 증감으로 카운터를 유지하지만,
+ * 게시글 삭제 직전에 카운터를 줄인 뒤 그 사이 같은 게시글 알림이 발송되면 (외래키로 같이 지워짐) 카운터가 남습니다.
+ * 이 작업이 주기적으로 실제 안 읽은 알림 수로 되돌립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadReconciler {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${notification.unread.reconcile-window:1000}")
+    private long windowSize;
+
+    @PostConstruct
+    void validate() {
+        if (windowSize < 1) {
+            throw new IllegalStateException("notification.unread.reconcile-window 는 1 이상이어야 합니다: " + windowSize);
+        }
+    }
+
+    /**
+     * MEMBERID 구간(windowSize)마다 별도 트랜잭션으로 UPDATE (한 번에 오래 잠그는 회원 행이 없도록)
+     */
+    @Scheduled(cron = "${notification.unread.reconcile-cron:0 15 * * * *}")
+    public void reconcile() {
+        Long maxMemberId = memberRepository.findMaxMemberId();
+        if (maxMemberId == null) {
+            return; // 회원이 없음
+        }
+
+        int repaired = 0;
+        for (long windowStart = 0; windowStart <= maxMemberId; windowStart += windowSize) {
+            repaired += memberRepository.reconcileUnreadNotificationCounts(windowStart,
+                    Math.min(windowStart + windowSize - 1, maxMemberId));
+        }
+
+        if (repaired > 0) {
+            log.warn("안 읽은 알림 수 보정 완료: {}명 수정", repaired);
+        } else {
+            log.debug("안 읽은 알림 수 보정 완료: 수정할 회원 없음");
+        }
+    }
+}
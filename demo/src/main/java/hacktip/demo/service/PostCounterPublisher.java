@@ -0,0 +1,70 @@
+package hacktip.demo.service;
+
+import hacktip.demo.dto.postDto.PostCounterMessageDto;
+import hacktip.demo.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [신규] 게시물 좋아요/댓글 수 실시간 전송 (STOMP /topic/post/{postId})
+ * 좋아요/댓글이 커밋되면 게시물 ID만 표시해 두고, 주기마다 바뀐 게시물의 최신 카운터를 한 번에 읽어서 전송합니다.
+ * -> 클릭이 아무리 몰려도 게시물당 전송은 주기당 최대 1번 (기본 250ms = 초당 4번)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterPublisher {
+
+    private static final String DESTINATION_PREFIX = "/topic/post/";
+
+    private final PostRepository postRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 마지막 전송 이후 카운터가 바뀐 게시물 ID
+    private final Set<Long> changedPostIds = ConcurrentHashMap.newKeySet();
+
+    // 한 번에 조회할 최대 게시물 수 (Oracle IN 목록 제한 1000 이하)
+    @Value("${post.realtime.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 트랜잭션이 커밋된 경우에만 전송 대상으로 표시 (롤백된 변경은 전송하지 않음)
+     */
+    public void markChangedAfterCommit(Long postId) {
+        TransactionHooks.afterCommit(() -> changedPostIds.add(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${post.realtime.publish-interval-ms:250}")
+    public void publish() {
+        while (!changedPostIds.isEmpty()) {
+            // 1. 표시된 ID를 꺼냄 (꺼낸 뒤에 들어온 변경은 다음 주기에 다시 전송)
+            List<Long> batch = new ArrayList<>(batchSize);
+            Iterator<Long> iterator = changedPostIds.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            // 2. 최신 카운터를 한 번에 조회해서 게시물별로 전송 (삭제된 게시물은 조회되지 않음)
+            try {
+                for (PostCounterMessageDto counters : postRepository.findCounterMessages(batch)) {
+                    messagingTemplate.convertAndSend(DESTINATION_PREFIX + counters.getPostId(), counters);
+                }
+            } catch (RuntimeException e) {
+                // 실시간 표시는 다음 변경 때 다시 맞춰지므로 재시도하지 않음
+                log.warn("게시물 카운터 실시간 전송 실패: {}건", batch.size(), e);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package hacktip.demo.service;
+
+import hacktip.demo.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 좋아요/댓글 카운터 보정 작업
+ * 평소에는 LikeService, CommentService 가 원자적 증감으로 카운터를 유지하고,
+ * 직접 SQL 로 데이터를 지우는 등 카운터가 어긋난 경우만 이 작업이 실제 건수로 되돌립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+
+    private final PostRepository postRepository;
+
+    @Value("${post.counter.reconcile-window:1000}")
+    private long windowSize;
+
+    @Value("${post.counter.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    // [수정] 구간 크기가 0 이하이면 reconcileRange 가 끝나지 않으므로 서버 시작 시 거절
+    @PostConstruct
+    void validate() {
+        if (windowSize < 1) {
+            throw new IllegalStateException("post.counter.reconcile-window 는 1 이상이어야 합니다: " + windowSize);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    /**
+     * POSTID 구간(windowSize)마다 별도 트랜잭션으로 UPDATE 하므로
+     * 한 번에 오래 잠그는 행이 없고, 일반 요청과 경합이 적습니다.
+     */
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxPostId = postRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return; // 게시물이 없음
+        }
+
+        int repaired = reconcileRange(0, maxPostId);
+
+        if (repaired > 0) {
+            log.warn("게시물 카운터 보정 완료: {}건 수정", repaired);
+        } else {
+            log.info("게시물 카운터 보정 완료: 수정할 게시물 없음");
+        }
+    }
+
+    /**
+     * [fromId, toId] 구간만 보정 (일괄 가져오기처럼 카운터를 거치지 않고 좋아요/댓글을 넣은 경우)
+     * @return 수정된 게시물 수
+     */
+    public int reconcileRange(long fromId, long toId) {
+        int repaired = 0;
+        for (long windowStart = fromId; windowStart <= toId; windowStart += windowSize) {
+            repaired += postRepository.reconcileCounters(windowStart, Math.min(windowStart + windowSize - 1, toId));
+        }
+        return repaired;
+    }
+}
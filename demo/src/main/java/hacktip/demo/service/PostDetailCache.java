@@ -0,0 +1,61 @@
+package hacktip.demo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hacktip.demo.dto.postDto.PostDetailCacheDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * [성능 개선] 게시물 상세 캐시 (크기 제한 + W-TinyLFU 교체 정책)
+ * 본문(CLOB)처럼 거의 바뀌지 않는 부분만 캐시하고, 수정/삭제 시 해당 게시물만 무효화합니다.
+ * 적중률, 교체(eviction) 횟수는 cache.gets / cache.evictions 지표(cache=postDetail)로 확인할 수 있습니다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, PostDetailCacheDto> cache;
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${post.detail-cache.maximum-size:1000}") long maximumSize,
+                           @Value("${post.detail-cache.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // DB를 직접 수정한 경우 등 무효화가 누락된 항목도 일정 시간 뒤에는 다시 읽도록 함
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader 로 읽어서 저장 (loader 가 null 을 반환하면 저장하지 않음)
+     */
+    public PostDetailCacheDto get(Long postId, Function<Long, PostDetailCacheDto> loader) {
+        return cache.get(postId, loader);
+    }
+
+    /**
+     * 게시물 수정/삭제 시 호출
+     * 즉시 한 번 지우고, 트랜잭션이 끝난 뒤 한 번 더 지웁니다.
+     * (커밋 전에 다른 요청이 변경 전 데이터를 다시 캐시에 올려 두는 경우 방지)
+     */
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(postId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package hacktip.demo.service;
+
+import hacktip.demo.dto.postDto.PostSearchDocDto;
+import hacktip.demo.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [신규] 게시물 전문 검색용 메모리 역색인 (제목 + 본문)
+ *  - 한글은 음절 2-gram, 영문/숫자는 단어 단위로 토큰화 (형태소 분석기 없이도 부분 일치 검색 가능)
+ *  - BM25 점수 상위 K개만 반환
+ *  - 게시물 생성/수정/삭제는 커밋 이후 해당 게시물만 다시 색인
+ *  - 주기적으로 디스크에 스냅샷을 저장해서, 재시작 시 본문(CLOB)을 모두 다시 토큰화하지 않고
+ *    스냅샷 이후 바뀐 게시물만 따라잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int TITLE_WEIGHT = 3;       // 제목에 나온 단어는 본문보다 3배 가중치
+    private static final int MAX_TOKEN_LENGTH = 40;  // 코드/URL 등 지나치게 긴 단어는 색인하지 않음
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final double K1 = 1.2;            // BM25 단어 빈도 포화 계수
+    private static final double B = 0.75;            // BM25 문서 길이 정규화 계수
+    private static final int BUILD_BATCH_SIZE = 500;
+    // 스냅샷 직전에 커밋됐지만 아직 색인에 반영되지 않았을 수 있는 변경을 위한 여유 시간
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final PostRepository postRepository;
+
+    @Value("${post.search.snapshot-path:./data/post-search-index.bin}")
+    private String snapshotPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 단어 -> (게시물 ID -> 단어 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 게시물 ID -> 색인된 문서 (수정/삭제 시 기존 단어를 지우고, 스냅샷 저장에 사용)
+    private final Map<Long, IndexedDoc> documents = new HashMap<>();
+    private long totalLength;
+
+    // 초기 구축 중에 먼저 반영된 변경 (구축 배치가 오래된 내용으로 덮어쓰지 않도록 건너뜀)
+    private final Set<Long> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    // 색인된 문서 (termFreqs 는 만든 뒤 변경하지 않으므로 잠금 없이 스냅샷에 쓸 수 있음)
+    private record IndexedDoc(Map<String, Integer> termFreqs, int length) {
+    }
+
+    /**
+     * 서버 시작 시 스냅샷을 읽고 이후 변경분만 따라잡음 (스냅샷이 없으면 전체 구축)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        building = true;
+        try {
+            Instant snapshotTime = loadSnapshot();
+            if (snapshotTime == null) {
+                rebuild();
+            } else {
+                catchUp(snapshotTime);
+            }
+            ready = true;
+            log.info("게시물 검색 인덱스 준비 완료: {}건", documentCount());
+        } catch (RuntimeException e) {
+            log.error("게시물 검색 인덱스 초기화 실패", e);
+        } finally {
+            building = false;
+            touchedDuringBuild.clear();
+        }
+    }
+
+    // ========================= 검색 =========================
+
+    /**
+     * BM25 점수 순으로 게시물 ID 반환
+     * @param query 검색어
+     * @param limit 최대 결과 수 (top-K)
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / docCount;
+
+            int used = 0;
+            for (String term : terms) {
+                if (used++ >= MAX_QUERY_TERMS) {
+                    break;
+                }
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.size();
+                double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).length();
+                    double norm = tf + K1 * (1 - B + B * length / avgLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수가 낮은 항목이 머리에 오는 크기 K 힙 (동점이면 최신 게시물 = 큰 ID 우선)
+        PriorityQueue<Map.Entry<Long, Double>> topK = new PriorityQueue<>(
+                (a, b) -> a.getValue().equals(b.getValue())
+                        ? Long.compare(a.getKey(), b.getKey())
+                        : Double.compare(a.getValue(), b.getValue()));
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            topK.offer(entry);
+            if (topK.size() > limit) {
+                topK.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(topK.size());
+        while (!topK.isEmpty()) {
+            result.add(topK.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    // ========================= 증분 갱신 =========================
+
+    // 게시물 생성/수정 트랜잭션이 커밋되면 해당 게시물만 다시 색인
+    public void indexAfterCommit(Long postId, String title, String content) {
+        TransactionHooks.afterCommit(() -> index(postId, title, content));
+    }
+
+    // 게시물 삭제 트랜잭션이 커밋되면 색인에서 제거
+    public void removeAfterCommit(Long postId) {
+        TransactionHooks.afterCommit(() -> remove(postId));
+    }
+
+    private void index(Long postId, String title, String content) {
+        Map<String, Integer> termFreqs = termFrequencies(title, content); // 토큰화는 잠금 밖에서
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                touchedDuringBuild.add(postId);
+            }
+            put(postId, termFreqs);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                touchedDuringBuild.add(postId);
+            }
+            removeInternal(postId);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // (쓰기 잠금 안에서 호출)
+    private void put(Long postId, Map<String, Integer> termFreqs) {
+        removeInternal(postId);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(postId, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(postId, new IndexedDoc(termFreqs, length));
+        totalLength += length;
+    }
+
+    // (쓰기 잠금 안에서 호출)
+    private void removeInternal(Long postId) {
+        IndexedDoc old = documents.remove(postId);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.termFreqs().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= old.length();
+    }
+
+    // 초기 구축/따라잡기 결과 반영 (그 사이 증분 갱신된 게시물은 건너뜀)
+    private void applyBatch(Map<Long, Map<String, Integer>> batch) {
+        lock.writeLock().lock();
+        try {
+            batch.forEach((postId, termFreqs) -> {
+                if (!touchedDuringBuild.contains(postId)) {
+                    put(postId, termFreqs);
+                }
+            });
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Map<String, Integer>> tokenizeBatch(List<PostSearchDocDto> docs) {
+        Map<Long, Map<String, Integer>> batch = new HashMap<>();
+        for (PostSearchDocDto doc : docs) {
+            batch.put(doc.getId(), termFrequencies(doc.getTitle(), doc.getContent()));
+        }
+        return batch;
+    }
+
+    // ========================= 구축 / 따라잡기 =========================
+
+    // 전체 게시물을 ID 순으로 나눠 읽으며 색인 (CLOB 을 한꺼번에 메모리에 올리지 않음)
+    private void rebuild() {
+        long lastId = 0L;
+        while (true) {
+            List<PostSearchDocDto> docs = postRepository.findSearchDocsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            if (docs.isEmpty()) {
+                break;
+            }
+            applyBatch(tokenizeBatch(docs));
+            lastId = docs.get(docs.size() - 1).getId();
+        }
+    }
+
+    // 스냅샷 이후 삭제/생성/수정된 게시물만 반영
+    private void catchUp(Instant snapshotTime) {
+        // 1. 삭제된 게시물 제거 (ID 목록만 조회)
+        Set<Long> existingIds = new HashSet<>(postRepository.findAllPostIds());
+        lock.writeLock().lock();
+        try {
+            List<Long> deletedIds = documents.keySet().stream()
+                    .filter(postId -> !existingIds.contains(postId) && !touchedDuringBuild.contains(postId))
+                    .toList();
+            deletedIds.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 2. 스냅샷 이후 생성/수정된 게시물만 다시 토큰화
+        Timestamp since = Timestamp.from(snapshotTime.minus(CATCH_UP_MARGIN));
+        List<PostSearchDocDto> changed = postRepository.findSearchDocsModifiedSince(since);
+        applyBatch(tokenizeBatch(changed));
+    }
+
+    // ========================= 스냅샷 =========================
+
+    @Scheduled(fixedDelayString = "${post.search.snapshot-interval-ms:600000}")
+    public void saveSnapshotIfDirty() {
+        if (ready && dirty) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshotIfDirty();
+    }
+
+    /**
+     * 게시물별 (단어, 빈도) 목록을 GZIP 파일로 저장
+     * 문서 맵만 잠금 안에서 복사하고, 디스크 쓰기는 잠금 밖에서 수행
+     */
+    private synchronized void saveSnapshot() {
+        Instant snapshotTime = Instant.now();
+        Map<Long, IndexedDoc> copy;
+        lock.readLock().lock();
+        try {
+            copy = new HashMap<>(documents);
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path target = Paths.get(snapshotPath);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(snapshotTime.toEpochMilli());
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, IndexedDoc> entry : copy.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    Map<String, Integer> termFreqs = entry.getValue().termFreqs();
+                    out.writeInt(termFreqs.size());
+                    for (Map.Entry<String, Integer> term : termFreqs.entrySet()) {
+                        out.writeUTF(term.getKey());
+                        out.writeInt(term.getValue());
+                    }
+                }
+            }
+            // 쓰는 도중 서버가 죽어도 기존 스냅샷이 깨지지 않도록 임시 파일을 교체
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("게시물 검색 인덱스 스냅샷 저장: {}건 -> {}", copy.size(), target);
+        } catch (IOException e) {
+            dirty = true; // 다음 주기에 다시 시도
+            log.error("게시물 검색 인덱스 스냅샷 저장 실패: {}", target, e);
+        }
+    }
+
+    /**
+     * 스냅샷을 읽어서 색인에 반영
+     * @return 스냅샷 저장 시각 (파일이 없거나 읽을 수 없으면 null -> 전체 구축)
+     */
+    private Instant loadSnapshot() {
+        Path target = Paths.get(snapshotPath);
+        if (!Files.exists(target)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(target))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("게시물 검색 인덱스 스냅샷 형식이 달라 전체를 다시 구축합니다: {}", target);
+                return null;
+            }
+            Instant snapshotTime = Instant.ofEpochMilli(in.readLong());
+            int docCount = in.readInt();
+            Map<Long, Map<String, Integer>> batch = new HashMap<>();
+            for (int i = 0; i < docCount; i++) {
+                long postId = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> termFreqs = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    termFreqs.put(in.readUTF(), in.readInt());
+                }
+                batch.put(postId, termFreqs);
+            }
+            applyBatch(batch);
+            log.info("게시물 검색 인덱스 스냅샷 로드: {}건 ({} 기준)", docCount, snapshotTime);
+            return snapshotTime;
+        } catch (IOException e) {
+            log.warn("게시물 검색 인덱스 스냅샷을 읽지 못해 전체를 다시 구축합니다: {}", target, e);
+            clear();
+            return null;
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================= 토큰화 =========================
+
+    // 제목 단어는 TITLE_WEIGHT 배로 계산
+    private static Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : tokenize(title)) {
+            termFreqs.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(content)) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        return termFreqs;
+    }
+
+    /**
+     * 한글 음절이 이어진 구간은 2-gram 으로, 그 외 문자/숫자 구간은 단어 하나로 분리
+     * 예) "스프링Boot 입문" -> [스프, 프링, boot, 입문]
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            int start = i;
+            if (isHangulSyllable(c)) {
+                while (i < length && isHangulSyllable(lower.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(lower.substring(start, i)); // 한 글자 단어는 그대로
+                } else {
+                    for (int k = start; k + 2 <= i; k++) {
+                        tokens.add(lower.substring(k, k + 2));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                while (i < length && Character.isLetterOrDigit(lower.charAt(i)) && !isHangulSyllable(lower.charAt(i))) {
+                    i++;
+                }
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(lower.substring(start, i));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -4,20 +4,34 @@ import hacktip.demo.domain.Member;
 import hacktip.demo.domain.post.Category;
 import hacktip.demo.domain.post.Post;
 import hacktip.demo.dto.CategoryPostCountDto;
+import hacktip.demo.dto.KeysetCursor;
+import hacktip.demo.dto.postDto.PostCountsDto;
 import hacktip.demo.dto.postDto.PostCreateRequestDto;
+import hacktip.demo.dto.postDto.PostDetailCacheDto;
+import hacktip.demo.dto.postDto.PostPageResponseDto;
+import hacktip.demo.dto.postDto.PostQueryCondition;
 import hacktip.demo.dto.postDto.PostResponseDto;
 import hacktip.demo.dto.postDto.PostSimpleResponseDto;
+import hacktip.demo.dto.postDto.PostSliceResponseDto;
+import hacktip.demo.dto.postDto.PostSortType;
 import hacktip.demo.dto.postDto.PostUpdateRequestDto;
 import hacktip.demo.repository.CategoryRepository;
 import hacktip.demo.repository.MemberRepository;
-import hacktip.demo.repository.PostLikeRepository;
 import hacktip.demo.repository.PostRepository;
 import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,7 +44,25 @@ public class PostService {
     private final MemberRepository memberRepository;
 
     private final CategoryRepository categoryRepository;
-    private final PostLikeRepository postLikeRepository;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingRanker trendingRanker;
+    private final MemberLikeBitmapStore likeBitmapStore;
+    private final CommentService commentService;
+    private final NotificationService notificationService;
+
+    // 피드 한 페이지에 내려줄 기본 게시물 수 / 클라이언트가 요청할 수 있는 최대 수
+    @Value("${post.feed.page-size:20}")
+    private int feedPageSize;
+
+    @Value("${post.feed.max-page-size:100}")
+    private int feedMaxPageSize;
+
+    // 검색어 조건이 있는 목록 조회에서 검색 인덱스로부터 받아올 최대 후보 수 (검색 점수 상위 순)
+    // [수정] 넘치는 후보는 잘리므로 응답의 truncated 로 알려줌
+    @Value("${post.search.candidate-limit:1000}")
+    private int searchCandidateLimit;
 
     /**
      * 1. 게시물 생성
@@ -56,6 +88,7 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        postSearchIndex.indexAfterCommit(savedPost.getPostId(), savedPost.getTitle(), savedPost.getContent()); // [신규] 검색 인덱스 반영
 
 
         // 생성 시점에는 '좋아요'를 누르지 않았으므로 isLiked는 항상 false
@@ -65,39 +98,143 @@ public class PostService {
     /**
      * 2. 게시물 전체 목록 조회 (최신순)
      * (content가 빠진 Simple DTO 사용)
+     * @param memberId 로그인한 사용자 ID (비로그인이면 null -> 좋아요 여부 조회 생략)
      */
-    @Transactional // (읽기 전용이지만, Lazy Loading을 위해 @Transactional 사용)
-    public List<PostSimpleResponseDto>  getAllPosts(){
+    @Transactional(readOnly = true)
+    public List<PostSimpleResponseDto>  getAllPosts(Long memberId){
 
-        // 1. 쿼리 메서드 사용 (최신순)
-        List<Post> posts = postRepository.findAllByOrderByCreateDateDesc();
+        // [성능 개선] 프로젝션 쿼리 1번으로 DTO 목록을 바로 조회 (엔티티 로딩/Lazy Loading 없음)
+        return applyLikedState(postRepository.findPostList(), memberId);
+    }
 
-        // 2. (변환) List<Post> -> List<PostSimpleResponseDto>
-        return posts.stream()
-                .map(PostSimpleResponseDto::new)
-                .collect(Collectors.toList());
+    /**
+     * [신규] 게시물 피드 커서 페이지 조회 (최신순)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (null 이면 기본값)
+     * @param memberId 로그인한 사용자 ID (null 이면 비로그인)
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponseDto getFeed(String cursor, Integer size, Long memberId) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = resolveFeedPageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSimpleResponseDto> posts = (keysetCursor == null)
+                ? postRepository.findFeed(limit)
+                : postRepository.findFeedAfter(Timestamp.valueOf(keysetCursor.getCreateDate()), keysetCursor.getId(), limit);
+
+        return toSlice(posts, pageSize, memberId);
+    }
+
+    /**
+     * [신규] 게시물 목록 페이지 조회 (카테고리/작성자/검색어 필터 + 정렬)
+     * @param category 카테고리 이름 (null 이면 전체)
+     * @param author   작성자 이름 (null 이면 전체)
+     * @param term     검색어 (제목 + 본문, null 이면 전체)
+     * @param sort     latest / likes / views / comments (null 이면 최신순)
+     * @param page     페이지 번호 (0부터)
+     * @param size     페이지 크기 (null 이면 기본값)
+     * @param memberId 로그인한 사용자 ID (null 이면 비로그인)
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponseDto queryPosts(String category, String author, String term, String sort,
+                                          Integer page, Integer size, Long memberId) {
+        PostSortType sortType = PostSortType.from(sort);
+        Pageable pageable = PageRequest.of((page == null || page < 0) ? 0 : page, resolveFeedPageSize(size));
+
+        // 1. 검색어가 있으면 검색 인덱스로 후보 게시물 ID를 먼저 추림
+        //    (1건 더 받아서 후보 수 제한에 걸렸는지 확인, 걸렸으면 점수가 낮은 후보는 빠지고 totalElements 도 제한된 값)
+        List<Long> postIds = null;
+        boolean truncated = false;
+        if (term != null && !term.isBlank()) {
+            postIds = postSearchIndex.search(term, searchCandidateLimit + 1);
+            if (postIds.isEmpty()) {
+                return new PostPageResponseDto(Page.empty(pageable));
+            }
+            if (postIds.size() > searchCandidateLimit) {
+                postIds = postIds.subList(0, searchCandidateLimit);
+                truncated = true;
+            }
+        }
+
+        // 2. 조건에 맞는 한 페이지만 조회
+        PostQueryCondition condition = new PostQueryCondition(blankToNull(category), blankToNull(author), postIds, sortType);
+        Page<PostSimpleResponseDto> result = postRepository.findPostPage(condition, pageable);
+        applyLikedState(result.getContent(), memberId);
+        return new PostPageResponseDto(result, truncated);
+    }
+
+    /**
+     * [신규] 인기 급상승(트렌딩) 게시물 조회
+     * 랭킹은 메모리에 정렬된 상태로 유지되므로 상위 size 개의 ID만 꺼내고, 목록 정보는 PK로 한 번에 조회
+     * @param size 게시물 수 (null 이면 기본값)
+     * @param memberId 로그인한 사용자 ID (null 이면 비로그인)
+     */
+    @Transactional(readOnly = true)
+    public List<PostSimpleResponseDto> getTrendingPosts(Integer size, Long memberId) {
+        List<Long> rankedIds = trendingRanker.topPostIds(resolveFeedPageSize(size));
+        return applyLikedState(findPostListInOrder(rankedIds), memberId);
+    }
+
+    /**
+     * [신규] 게시물 전문 검색 (제목 + 본문, 검색 점수 순)
+     * @param query 검색어
+     * @param size  최대 결과 수 (null 이면 기본값)
+     * @param memberId 로그인한 사용자 ID (null 이면 비로그인)
+     */
+    @Transactional(readOnly = true)
+    public List<PostSimpleResponseDto> searchPosts(String query, Integer size, Long memberId) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        // 1. 메모리 인덱스에서 점수 상위 게시물 ID 조회
+        List<Long> rankedIds = postSearchIndex.search(query, resolveFeedPageSize(size));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 목록용 프로젝션으로 한 번에 조회한 뒤 점수 순서대로 정렬
+        return applyLikedState(findPostListInOrder(rankedIds), memberId);
     }
 
     /**
      * 3. 게시물 상세 조회 (+ 조회수 1 증가)
+     * [성능 개선] 조회수는 메모리 버퍼에만 더하고 주기적으로 일괄 반영하므로 읽기 전용 트랜잭션으로 처리
+     * [성능 개선] 본문 등 공통 정보는 PostDetailCache 에서 가져오고, 카운터만 매번 가볍게 조회
+     * @param embedComments true 이면 첫 댓글 페이지를 응답에 함께 담음
      */
-    @Transactional
-    public PostResponseDto getPostById(Long postId, String email){
+    @Transactional(readOnly = true)
+    public PostResponseDto getPostById(Long postId, Long memberId, boolean embedComments){
 
-        Post post = postRepository.findById(postId)
+        // 1. 카운터 조회 (게시물 존재 여부 확인도 겸함 -> 삭제된 게시물은 캐시에 남아 있어도 응답하지 않음)
+        PostCountsDto counts = postRepository.findPostCounts(postId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 Id의 게시물이 없습니다. postId : " + postId));
 
-        // '좋아요' 여부는 로그인한 사용자(email != null)에 한해서만 확인합니다.
-        // Optional을 활용하여 email과 member가 모두 존재할 경우에만 '좋아요' 상태를 조회합니다.
-        boolean isLiked = memberRepository.findByEmail(email)
-                .map(member -> postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, member.getMemberId()))
-                .orElse(false); // 사용자가 없거나 비로그인 상태이면 false
+        // 2. 공통 정보 (캐시에 없을 때만 DB 조회)
+        PostDetailCacheDto detail = postDetailCache.get(postId, id -> postRepository.findPostDetail(id).orElse(null));
+        if (detail == null) {
+            throw new IllegalArgumentException("해당 Id의 게시물이 없습니다. postId : " + postId);
+        }
 
-        // 조회수 1 증가 (Dirty Checking)
-        post.increaseViewCount();
+        // '좋아요' 여부는 로그인한 사용자(memberId != null)에 한해서만 확인합니다.
+        // [성능 개선] 회원별 좋아요 비트맵에서 확인 (DB 조회 없음, 비로그인 상태이면 false)
+        boolean isLiked = likeBitmapStore.isLiked(memberId, postId);
 
-        // Post -> PostResponseDto 변환 (isLiked 상태와 함께)
-        return new PostResponseDto(post, isLiked);
+        // 조회수 1 증가 (PostViewCountBuffer 가 배치 UPDATE 로 반영)
+        viewCountBuffer.increment(postId);
+        trendingRanker.recordView(postId); // [신규] 트렌딩 점수 반영
+
+        // 캐시 항목 + 카운터(아직 반영되지 않은 조회수 포함) + 사용자별 isLiked 를 합쳐서 응답
+        int views = counts.getViews() + (int) viewCountBuffer.pendingCount(postId);
+        PostResponseDto response = new PostResponseDto(detail, views, counts.getLikesCount(), counts.getCommentCount(), isLiked);
+
+        // [신규] 요청 시 첫 댓글 페이지를 함께 담아서 댓글 조회 요청을 따로 보내지 않도록 함
+        if (embedComments) {
+            response.embedComments(commentService.getFirstCommentPage(postId));
+        }
+        return response;
     }
 
 
@@ -127,9 +264,11 @@ public class PostService {
 
         // --- (인가 통과) ---
         post.update(requestDto.getTitle(), requestDto.getContent(), category);
+        postDetailCache.evict(postId); // [성능 개선] 상세 캐시 무효화
+        postSearchIndex.indexAfterCommit(postId, post.getTitle(), post.getContent()); // [신규] 검색 인덱스 반영
 
         // 수정 후 '좋아요' 상태는 변하지 않으므로, 현재 상태를 다시 조회하여 DTO 생성
-        boolean isLiked = postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, requestingMember.getMemberId());
+        boolean isLiked = likeBitmapStore.isLiked(requestingMember.getMemberId(), postId);
         return new PostResponseDto(post, isLiked);
     }
 
@@ -159,26 +298,52 @@ public class PostService {
 
         // --- (인가 통과) ---
         // 5. (삭제) DB에서 게시물 삭제
+        notificationService.beforePostDeleted(postId); // [신규] 외래키로 함께 지워질 알림의 안 읽은 수 반영
         postRepository.delete(post);
+        postDetailCache.evict(postId); // [성능 개선] 상세 캐시 무효화
+        postSearchIndex.removeAfterCommit(postId); // [신규] 검색 인덱스에서 제거
+        trendingRanker.removeAfterCommit(postId); // [신규] 트렌딩 랭킹에서 제거
     }
 
     /**
      * 6. 카테고리별 게시물 목록 조회 (최신순)
      * @param categoryName 조회할 카테고리 이름
+     * @param memberId 로그인한 사용자 ID (null 이면 비로그인)
      * @return 해당 카테고리의 게시물 목록
      */
-    @Transactional
-    public List<PostSimpleResponseDto> getPostsByCategory(String categoryName) {
+    @Transactional(readOnly = true)
+    public List<PostSimpleResponseDto> getPostsByCategory(String categoryName, Long memberId) {
         // 1. 카테고리 존재 여부 확인 (선택적이지만, 유효하지 않은 카테고리 요청에 대해 빠른 실패를 유도)
         if (!categoryRepository.existsByCategoryName(categoryName)) {
             throw new IllegalArgumentException("존재하지 않는 카테고리입니다: " + categoryName);
         }
 
-        // 2. Repository에 추가한 쿼리 메서드를 호출하여 게시물 목록 조회
-        List<Post> posts = postRepository.findAllByCategory_CategoryNameOrderByCreateDateDesc(categoryName);
+        // 2. [성능 개선] 프로젝션 쿼리로 DTO 목록을 바로 조회
+        return applyLikedState(postRepository.findPostListByCategoryName(categoryName), memberId);
+    }
 
-        // 3. (변환) List<Post> -> List<PostSimpleResponseDto>
-        return posts.stream().map(PostSimpleResponseDto::new).collect(Collectors.toList());
+    /**
+     * [신규] 카테고리별 게시물 피드 커서 페이지 조회 (최신순)
+     * @param categoryName 조회할 카테고리 이름
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size         페이지 크기 (null 이면 기본값)
+     * @param memberId     로그인한 사용자 ID (null 이면 비로그인)
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponseDto getFeedByCategory(String categoryName, String cursor, Integer size, Long memberId) {
+        // 카테고리 ID로 조회해야 IDX_POST_CATEGORY_FEED 인덱스를 그대로 탈 수 있으므로 먼저 엔티티를 조회
+        Category category = categoryRepository.findByCategoryName(categoryName)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다: " + categoryName));
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = resolveFeedPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSimpleResponseDto> posts = (keysetCursor == null)
+                ? postRepository.findFeedByCategory(category, limit)
+                : postRepository.findFeedByCategoryAfter(category, Timestamp.valueOf(keysetCursor.getCreateDate()), keysetCursor.getId(), limit);
+
+        return toSlice(posts, pageSize, memberId);
     }
 
     /**
@@ -191,4 +356,62 @@ public class PostService {
         return postRepository.countPostsByCategory();
     }
 
+    // 게시물 ID 목록 순서 그대로 목록 DTO 조회 (그 사이 삭제된 게시물은 제외)
+    private List<PostSimpleResponseDto> findPostListInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSimpleResponseDto> postsById = postRepository.findPostListByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSimpleResponseDto::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * [성능 개선] 목록 게시물들의 '좋아요' 여부를 채움 (게시물마다 exists 쿼리 X)
+     * 회원별 좋아요 비트맵을 한 번 꺼내서 메모리에서 확인 (캐시에 없을 때만 DB 조회 1번)
+     */
+    private List<PostSimpleResponseDto> applyLikedState(List<PostSimpleResponseDto> posts, Long memberId) {
+        if (memberId == null || posts.isEmpty()) {
+            return posts;
+        }
+        LikedPostBitmap likedPosts = likeBitmapStore.bitmapOf(memberId);
+        for (PostSimpleResponseDto post : posts) {
+            if (likedPosts.contains(post.getId())) {
+                post.markLiked();
+            }
+        }
+        return posts;
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+    // 요청 페이지 크기를 1 ~ 최대값 사이로 보정
+    private int resolveFeedPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return feedPageSize;
+        }
+        return Math.min(size, feedMaxPageSize);
+    }
+
+    // pageSize + 1 건으로 조회한 결과를 잘라서 다음 커서와 함께 반환
+    private PostSliceResponseDto toSlice(List<PostSimpleResponseDto> posts, int pageSize, Long memberId) {
+        boolean hasNext = posts.size() > pageSize;
+        List<PostSimpleResponseDto> page = hasNext ? posts.subList(0, pageSize) : posts;
+        applyLikedState(page, memberId);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSimpleResponseDto last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreateDate().toLocalDateTime(), last.getId()).encode();
+        }
+
+        return new PostSliceResponseDto(page, nextCursor, hasNext);
+    }
+
 }
@@ -0,0 +1,318 @@
+package hacktip.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [신규] 인기 급상승(트렌딩) 게시물 랭킹
+ * 조회/좋아요/댓글 이벤트마다 게시물 점수를 더하고, 점수는 반감기(half-life)마다 절반으로 줄어듭니다.
+ *
+ * 모든 점수를 고정된 기준 시각(EPOCH_SECONDS)으로 환산해서 로그 값으로 저장하므로
+ * 시간이 지나도 점수끼리의 순서는 바뀌지 않습니다. -> 전체 점수를 주기적으로 다시 계산할 필요가 없고,
+ * 정렬된 집합(ranking)의 앞에서 K개만 꺼내면 상위 K개가 됩니다.
+ *
+ * [성능 개선] 조회 이벤트는 상세 조회마다 발생하므로 요청 스레드에서는 게시물별 LongAdder 에 더하기만 하고
+ * (잠금 없음), 주기적으로 모아서 랭킹에 반영합니다. 반영이 몇 초 늦어지는 것은 반감기(기본 24시간)에 비해 무시할 수 있음.
+ */
+@Slf4j
+@Component
+public class PostTrendingRanker {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    // 점수 환산 기준 시각 (2025-01-01T00:00:00Z), 스냅샷에 저장된 점수도 이 기준이므로 바꾸면 안 됨
+    private static final long EPOCH_SECONDS = 1_735_689_600L;
+    // 현재 점수가 이 값보다 작아진 게시물은 랭킹에서 제거 (메모리 제한)
+    private static final double PRUNE_THRESHOLD = 0.05;
+
+    // 랭킹 항목 (점수 내림차순, 동점이면 최신 게시물 = 큰 ID 우선)
+    private record Entry(long postId, double logScore) {
+    }
+
+    private static final Comparator<Entry> RANKING_ORDER = Comparator
+            .comparingDouble(Entry::logScore).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    // 게시물 ID -> 현재 랭킹 항목 (갱신 시 기존 항목을 찾아서 교체, synchronized 안에서만 변경)
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 게시물 ID -> 아직 랭킹에 반영되지 않은 조회 수 (PostViewCountBuffer 와 같은 방식)
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    // 직전 반영에서 맵에서 제거한 카운터 (제거 직전에 참조를 얻은 요청이 늦게 더한 값을 다음 반영에서 처리)
+    private List<Map.Entry<Long, LongAdder>> retiredViews = new ArrayList<>();
+
+    private final double decayRate;   // 초당 감쇠율 (ln2 / 반감기)
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final String snapshotPath;
+    private final Clock clock;
+    private volatile boolean dirty;
+
+    @Autowired
+    public PostTrendingRanker(@Value("${post.trending.half-life:24h}") Duration halfLife,
+                              @Value("${post.trending.weight.view:1}") double viewWeight,
+                              @Value("${post.trending.weight.like:5}") double likeWeight,
+                              @Value("${post.trending.weight.comment:3}") double commentWeight,
+                              @Value("${post.trending.snapshot-path:./data/post-trending.bin}") String snapshotPath) {
+        this(halfLife, viewWeight, likeWeight, commentWeight, snapshotPath, Clock.systemUTC());
+    }
+
+    // 시각을 지정할 수 있는 생성자 (감쇠 계산 테스트용)
+    PostTrendingRanker(Duration halfLife, double viewWeight, double likeWeight, double commentWeight,
+                       String snapshotPath, Clock clock) {
+        this.decayRate = Math.log(2) / halfLife.toSeconds();
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.snapshotPath = snapshotPath;
+        this.clock = clock;
+    }
+
+    // ========================= 이벤트 =========================
+
+    // [성능 개선] 요청 스레드에서는 카운터만 증가 (랭킹 잠금을 잡지 않음, 반영은 foldViews)
+    public void recordView(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // 좋아요/댓글은 트랜잭션이 커밋된 경우에만 반영 (좋아요 취소, 댓글 삭제는 점수를 되돌림)
+    public void recordLikeAfterCommit(Long postId, boolean liked) {
+        TransactionHooks.afterCommit(() -> add(postId, liked ? likeWeight : -likeWeight));
+    }
+
+    public void recordCommentAfterCommit(Long postId, boolean created) {
+        TransactionHooks.afterCommit(() -> add(postId, created ? commentWeight : -commentWeight));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        TransactionHooks.afterCommit(() -> remove(postId));
+    }
+
+    /**
+     * 누적된 조회 수를 랭킹에 반영 (게시물마다 조회 수 x 가중치를 한 번에 더함)
+     * 스케줄러/종료 처리에서만 잠금을 잡으므로 상세 조회 요청은 기다리지 않음
+     */
+    @Scheduled(fixedDelayString = "${post.trending.view-fold-interval-ms:5000}")
+    public synchronized void foldViews() {
+        Map<Long, Long> counts = new HashMap<>();
+
+        // 1. 직전에 제거한 카운터에 늦게 더해진 값
+        for (Map.Entry<Long, LongAdder> retired : retiredViews) {
+            collect(counts, retired.getKey(), retired.getValue().sumThenReset());
+        }
+
+        // 2. 현재 카운터 (이번 주기에 조회가 없었던 게시물은 맵에서 제거)
+        List<Map.Entry<Long, LongAdder>> nextRetired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                collect(counts, entry.getKey(), count);
+            } else if (pendingViews.remove(entry.getKey(), entry.getValue())) {
+                nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retiredViews = nextRetired;
+
+        counts.forEach((postId, count) -> addInternal(postId, count * viewWeight));
+    }
+
+    private static void collect(Map<Long, Long> counts, Long postId, long count) {
+        if (count > 0) {
+            counts.merge(postId, count, Long::sum);
+        }
+    }
+
+    private synchronized void add(long postId, double weight) {
+        addInternal(postId, weight);
+    }
+
+    /**
+     * 현재 시각의 weight 를 기준 시각으로 환산해서 더함 (로그 공간에서 계산해서 오버플로 방지)
+     * log(e^a + e^b) = max + log(1 + e^(min - max))
+     * (synchronized 안에서 호출)
+     */
+    private void addInternal(long postId, double weight) {
+        if (weight == 0) {
+            return; // 가중치 0 (설정으로 끈 이벤트)
+        }
+        double eventLog = Math.log(Math.abs(weight)) + decayRate * (nowSeconds() - EPOCH_SECONDS);
+        Entry old = entries.get(postId);
+
+        double newLog;
+        if (weight >= 0) {
+            newLog = (old == null) ? eventLog : logAddExp(old.logScore(), eventLog);
+        } else {
+            // 감소: 기존 점수보다 크게 빼면 랭킹에서 제거
+            if (old == null || eventLog >= old.logScore()) {
+                removeInternal(postId);
+                return;
+            }
+            newLog = old.logScore() + Math.log1p(-Math.exp(eventLog - old.logScore()));
+        }
+
+        if (old != null) {
+            ranking.remove(old);
+        }
+        Entry updated = new Entry(postId, newLog);
+        entries.put(postId, updated);
+        ranking.add(updated);
+        dirty = true;
+    }
+
+    private synchronized void remove(long postId) {
+        pendingViews.remove(postId); // 삭제된 게시물의 조회 수가 나중에 반영되어 랭킹에 다시 들어오지 않도록
+        removeInternal(postId);
+    }
+
+    private void removeInternal(long postId) {
+        Entry old = entries.remove(postId);
+        if (old != null) {
+            ranking.remove(old);
+            dirty = true;
+        }
+    }
+
+    // ========================= 조회 =========================
+
+    /**
+     * 점수 상위 게시물 ID (정렬된 집합의 앞에서 limit 개만 읽음 -> O(K))
+     */
+    public List<Long> topPostIds(int limit) {
+        List<Long> result = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next().postId());
+        }
+        return result;
+    }
+
+    // 오래되어 점수가 거의 0이 된 게시물 정리 (점수가 낮은 쪽 = 집합의 뒤쪽부터 확인)
+    @Scheduled(fixedDelayString = "${post.trending.prune-interval-ms:600000}")
+    public synchronized void prune() {
+        double threshold = Math.log(PRUNE_THRESHOLD) + decayRate * (nowSeconds() - EPOCH_SECONDS);
+        Iterator<Entry> iterator = ranking.descendingIterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.logScore() >= threshold) {
+                break;
+            }
+            iterator.remove();
+            entries.remove(entry.postId());
+            dirty = true;
+        }
+    }
+
+    // ========================= 스냅샷 =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        Path target = Paths.get(snapshotPath);
+        if (!Files.exists(target)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(target)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("트렌딩 점수 스냅샷 형식이 달라 무시합니다: {}", target);
+                return;
+            }
+            int count = in.readInt();
+            synchronized (this) {
+                for (int i = 0; i < count; i++) {
+                    long postId = in.readLong();
+                    double logScore = in.readDouble();
+                    // 서버가 켜진 뒤 먼저 들어온 이벤트가 있으면 합산
+                    Entry current = entries.get(postId);
+                    double merged = (current == null) ? logScore : logAddExp(current.logScore(), logScore);
+                    if (current != null) {
+                        ranking.remove(current);
+                    }
+                    Entry entry = new Entry(postId, merged);
+                    entries.put(postId, entry);
+                    ranking.add(entry);
+                }
+            }
+            log.info("트렌딩 점수 스냅샷 로드: {}건", count);
+        } catch (IOException e) {
+            log.warn("트렌딩 점수 스냅샷을 읽지 못했습니다: {}", target, e);
+        }
+        prune();
+    }
+
+    @Scheduled(fixedDelayString = "${post.trending.snapshot-interval-ms:300000}")
+    public void saveSnapshotIfDirty() {
+        if (dirty) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        foldViews(); // 아직 반영되지 않은 조회 수까지 저장
+        saveSnapshotIfDirty();
+    }
+
+    private void saveSnapshot() {
+        List<Entry> copy;
+        synchronized (this) {
+            copy = new ArrayList<>(entries.values());
+            dirty = false;
+        }
+
+        Path target = Paths.get(snapshotPath);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(copy.size());
+                for (Entry entry : copy) {
+                    out.writeLong(entry.postId());
+                    out.writeDouble(entry.logScore());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true; // 다음 주기에 다시 시도
+            log.error("트렌딩 점수 스냅샷 저장 실패: {}", target, e);
+        }
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private double nowSeconds() {
+        return clock.millis() / 1000.0;
+    }
+}
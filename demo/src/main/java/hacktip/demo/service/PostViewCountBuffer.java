@@ -0,0 +1,141 @@
+package hacktip.demo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [성능 개선] 게시물 조회수 쓰기 지연(write-behind) 버퍼
+ * 상세 조회마다 POST 행을 UPDATE 하지 않고 메모리에 누적한 뒤,
+ * 일정 주기마다 한 번의 배치 UPDATE 로 DB에 반영합니다.
+ * (인기 게시물에 조회가 몰려도 POST 행 잠금을 기다리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE POST SET VIEWCOUNT = VIEWCOUNT + ? WHERE POSTID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 게시물 ID -> 아직 반영되지 않은 조회수
+    // (LongAdder 는 내부적으로 셀을 나눠 더하므로 같은 게시물에 동시 조회가 몰려도 경합이 적음)
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 직전 flush 에서 맵에서 제거한 카운터
+    // (제거 직전에 참조를 얻은 요청이 늦게 더한 값이 있을 수 있으므로 다음 flush 에서 한 번 더 비움)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    private volatile long lastFlushNanos = System.nanoTime();
+
+    @PostConstruct
+    public void registerMetrics() {
+        // 반영 대기 중인 게시물 수 / 조회수 합계
+        Gauge.builder("post.view.buffer.size", pending, Map::size)
+                .description("조회수 반영을 기다리는 게시물 수")
+                .register(meterRegistry);
+        Gauge.builder("post.view.buffer.pending", this, PostViewCountBuffer::totalPending)
+                .description("DB에 아직 반영되지 않은 조회수 합계")
+                .register(meterRegistry);
+        // 마지막으로 flush 에 성공한 뒤 지난 시간 (DB 장애 등으로 flush 가 밀리면 계속 커짐)
+        Gauge.builder("post.view.flush.lag", this, buffer -> (System.nanoTime() - buffer.lastFlushNanos) / 1_000_000_000.0)
+                .description("마지막 조회수 flush 성공 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (상세 조회 응답에 더해서 보여줌)
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder == null) ? 0 : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE 로 반영
+     * 실패하면 다음 주기에 다시 시도하도록 버퍼에 되돌려 놓습니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 게시물 ID 순으로 정렬해서 UPDATE (다른 작업과 행 잠금 순서를 맞춰 교착 상태 방지)
+        Map<Long, Long> deltas = new TreeMap<>();
+
+        // 1. 직전에 제거한 카운터에 늦게 더해진 값
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            collect(deltas, entry.getKey(), entry.getValue().sumThenReset());
+        }
+
+        // 2. 현재 버퍼의 값 (이번 주기에 조회가 없었던 게시물은 맵에서 제거)
+        List<Map.Entry<Long, LongAdder>> nextRetired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                collect(deltas, entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retired = nextRetired;
+
+        if (deltas.isEmpty()) {
+            lastFlushNanos = System.nanoTime();
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            lastFlushNanos = System.nanoTime();
+        } catch (DataAccessException e) {
+            log.error("조회수 flush 실패 ({}개 게시물), 다음 주기에 다시 시도합니다.", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    // 서버 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("서버 종료 중 반영하지 못한 조회수가 있습니다: {}건", totalPending());
+        }
+    }
+
+    private long totalPending() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static void collect(Map<Long, Long> deltas, Long postId, long delta) {
+        if (delta > 0) {
+            deltas.merge(postId, delta, Long::sum);
+        }
+    }
+}
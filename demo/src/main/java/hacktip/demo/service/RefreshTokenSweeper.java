@@ -0,0 +1,40 @@
+package hacktip.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * [신규] 만료된 Refresh Token 정리
+ * 로그아웃하지 않고 떠난 사용자의 토큰 행이 계속 쌓이지 않도록 EXPIRES_AT 이 지난 행을 batch-size 행씩 삭제합니다. (BatchedDelete)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    // IDX_REFRESH_TOKENS_EXPIRES 인덱스 범위 스캔 후 앞에서 batch-size 행만 삭제
+    private static final String SWEEP_SQL =
+            "DELETE FROM REFRESH_TOKENS WHERE EXPIRES_AT < SYSTIMESTAMP AND ROWNUM <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.refresh-token-sweeper.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번 실행할 때 최대 배치 수 (남은 행은 다음 실행 때 이어서 삭제)
+    @Value("${jwt.refresh-token-sweeper.max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(initialDelayString = "${jwt.refresh-token-sweeper.initial-delay-ms:60000}",
+            fixedDelayString = "${jwt.refresh-token-sweeper.interval-ms:3600000}")
+    public void sweep() {
+        long total = BatchedDelete.run(jdbcTemplate, SWEEP_SQL, new Object[0], batchSize, maxBatches);
+        if (total > 0) {
+            log.info("만료된 Refresh Token {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package hacktip.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업 등록 도우미
+ * (메모리 인덱스/캐시처럼 DB 밖에 있는 상태는 커밋이 확정된 뒤에만 반영해야 롤백 시 어긋나지 않음)
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 task 실행 (트랜잭션 밖에서 호출되면 바로 실행)
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
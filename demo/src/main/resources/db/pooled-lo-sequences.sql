@@ -0,0 +1,11 @@
+-- [성능 개선] pooled-lo 시퀀스 마이그레이션 (JPA allocationSize = 50)
+-- 서버 시작 시 JPA 초기화 전에 실행 (spring.sql.init.*), 이미 INCREMENT BY 50 이거나 시퀀스가 없으면 아무것도 하지 않음
+-- INCREMENT BY 1 -> 50 으로 바꾸면 다음 NEXTVAL 은 (현재 값 + 50) 이므로 이미 발급된 ID 와 겹치지 않음
+BEGIN
+    FOR s IN (SELECT sequence_name FROM user_sequences
+              WHERE sequence_name IN ('SEQ_POST', 'SEQ_COMMENT', 'SEQ_MEMBER_STACK')
+                AND increment_by <> 50) LOOP
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE ' || s.sequence_name || ' INCREMENT BY 50';
+    END LOOP;
+END;
+/
@@ -0,0 +1,175 @@
+package hacktip.demo.config.jwt;
+
+import hacktip.demo.domain.RevokedAccessToken;
+import hacktip.demo.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenRevocationListTest {
+
+    private RevokedAccessTokenRepository repository;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+        revocationList = new AccessTokenRevocationList(repository);
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 1_000);
+        ReflectionTestUtils.setField(revocationList, "falsePositiveRate", 0.01);
+        revocationList.init();
+    }
+
+    @Test
+    void revokedJtiIsRevoked() {
+        String jti = UUID.randomUUID().toString();
+
+        revocationList.revoke(jti, Instant.now().plusSeconds(60));
+
+        assertTrue(revocationList.isRevoked(jti));
+        assertFalse(revocationList.isRevoked(UUID.randomUUID().toString()));
+        verify(repository).save(any(RevokedAccessToken.class));
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        String jti = UUID.randomUUID().toString();
+
+        revocationList.revoke(jti, Instant.now().minusSeconds(1));
+
+        assertFalse(revocationList.isRevoked(jti));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void revokedJtiSurvivesRefreshUntilItExpires() {
+        String jti = UUID.randomUUID().toString();
+        revocationList.revoke(jti, Instant.now().plusSeconds(60));
+
+        revocationList.refresh(); // DB 조회 결과에 없어도 메모리 항목은 유지
+
+        assertTrue(revocationList.isRevoked(jti));
+    }
+
+    @Test
+    void expiredEntriesAreDroppedOnRefresh() throws InterruptedException {
+        String jti = UUID.randomUUID().toString();
+        revocationList.revoke(jti, Instant.now().plusMillis(50));
+        assertTrue(revocationList.isRevoked(jti));
+
+        Thread.sleep(100);
+        assertFalse(revocationList.isRevoked(jti)); // 만료 시각이 지나면 refresh 전에도 통과
+
+        revocationList.refresh();
+
+        assertFalse(revocationList.isRevoked(jti));
+        assertTrue(revokedEntries().isEmpty());
+        verify(repository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    @Test
+    void refreshLoadsJtisRevokedByOtherServers() {
+        String jti = UUID.randomUUID().toString();
+        when(repository.findAllByExpiresAtAfter(any()))
+                .thenReturn(List.of(new RevokedAccessToken(jti, LocalDateTime.now().plusMinutes(5))));
+
+        assertFalse(revocationList.isRevoked(jti));
+        revocationList.refresh();
+
+        assertTrue(revocationList.isRevoked(jti));
+    }
+
+    @Test
+    void revokeDuringRefreshIsNotLost() throws Exception {
+        // refresh 가 DB 를 읽는 동안(잠금 밖) 다른 스레드가 revoke -> DB 결과에는 없는 jti
+        CountDownLatch refreshReading = new CountDownLatch(1);
+        CountDownLatch revoked = new CountDownLatch(1);
+        when(repository.findAllByExpiresAtAfter(any())).thenAnswer(invocation -> {
+            refreshReading.countDown();
+            assertTrue(revoked.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> refresh = executor.submit(revocationList::refresh);
+            assertTrue(refreshReading.await(5, TimeUnit.SECONDS));
+
+            String jti = UUID.randomUUID().toString();
+            revocationList.revoke(jti, Instant.now().plusSeconds(60));
+            revoked.countDown();
+            refresh.get(5, TimeUnit.SECONDS);
+
+            // 새로 만든 블룸 필터에도 포함되어 있어야 함
+            assertTrue(revocationList.isRevoked(jti));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentRevokesWhileRefreshingAreAllKept() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread refresher = new Thread(() -> {
+            while (running.get()) {
+                revocationList.refresh();
+            }
+        });
+        refresher.start();
+
+        List<String> jtis = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                String jti = UUID.randomUUID().toString();
+                jtis.add(jti);
+                futures.add(executor.submit(() -> revocationList.revoke(jti, Instant.now().plusSeconds(60))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            refresher.join();
+            executor.shutdownNow();
+        }
+
+        for (String jti : jtis) {
+            assertTrue(revocationList.isRevoked(jti), jti);
+        }
+        revocationList.refresh();
+        for (String jti : jtis) {
+            assertTrue(revocationList.isRevoked(jti), jti);
+        }
+        assertEquals(jtis.size(), revokedEntries().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> revokedEntries() {
+        return (Map<String, Long>) ReflectionTestUtils.getField(revocationList, "revoked");
+    }
+}
@@ -0,0 +1,93 @@
+package hacktip.demo.config.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JtiBloomFilterTest {
+
+    @Test
+    void addedJtisAreNeverMissed() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+        List<String> jtis = randomJtis(10_000);
+        jtis.forEach(filter::add);
+
+        // 거짓 음성(폐기했는데 통과)은 절대 없어야 함
+        for (String jti : jtis) {
+            assertTrue(filter.mightContain(jti), jti);
+        }
+    }
+
+    @Test
+    void ofContainsEveryGivenJtiEvenAboveExpectedEntries() {
+        List<String> jtis = randomJtis(5_000);
+
+        JtiBloomFilter filter = JtiBloomFilter.of(jtis, 100, 0.01); // 예상보다 항목이 많아도 크기를 늘려서 생성
+
+        for (String jti : jtis) {
+            assertTrue(filter.mightContain(jti), jti);
+        }
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        JtiBloomFilter filter = JtiBloomFilter.of(List.of(), 1_000, 0.01);
+
+        for (String jti : randomJtis(1_000)) {
+            assertFalse(filter.mightContain(jti));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+        randomJtis(10_000).forEach(filter::add);
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (String jti : randomJtis(probes)) {
+            if (filter.mightContain(jti)) {
+                falsePositives++;
+            }
+        }
+        // 목표 1% (무작위 값이므로 여유를 두고 2% 이하인지 확인)
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws InterruptedException {
+        JtiBloomFilter filter = new JtiBloomFilter(20_000, 0.01);
+        List<List<String>> batches = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            List<String> batch = randomJtis(5_000);
+            batches.add(batch);
+            Thread thread = new Thread(() -> batch.forEach(filter::add));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 같은 워드의 다른 비트를 동시에 켜도 CAS 로 합쳐져야 함
+        for (List<String> batch : batches) {
+            for (String jti : batch) {
+                assertTrue(filter.mightContain(jti), jti);
+            }
+        }
+    }
+
+    private static List<String> randomJtis(int count) {
+        List<String> jtis = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jtis.add(UUID.randomUUID().toString());
+        }
+        return jtis;
+    }
+}
@@ -0,0 +1,101 @@
+package hacktip.demo.config.jwt;
+
+import hacktip.demo.domain.Member;
+import hacktip.demo.domain.Role;
+import hacktip.demo.repository.RevokedAccessTokenRepository;
+import hacktip.demo.security.UserDetailsImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtTokenProviderTest {
+
+    // 테스트 전용 키 (HS256, 32바이트 이상)
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tcHJvdmlkZXItdGVzdHM=";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(repository);
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 1_000);
+        ReflectionTestUtils.setField(revocationList, "falsePositiveRate", 0.01);
+        revocationList.init();
+
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry(), revocationList);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKeyString", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationMs", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationMs", 600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaximumSize", 100L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void accessTokenBuildsPrincipalFromClaims() {
+        String token = jwtTokenProvider.createAccessToken(member());
+
+        UserDetailsImpl userDetails = jwtTokenProvider.getUserDetails(token);
+
+        assertNotNull(userDetails);
+        assertEquals(1L, userDetails.getMemberId());
+        assertEquals("user@test.com", userDetails.getUsername());
+        assertEquals(Role.JOB_SEEKER, userDetails.getRole());
+    }
+
+    @Test
+    void revokedAccessTokenIsRejected() {
+        String token = jwtTokenProvider.createAccessToken(member());
+        assertNotNull(jwtTokenProvider.getUserDetails(token)); // 검증 결과가 캐시된 상태에서 폐기
+
+        jwtTokenProvider.revokeAccessToken(token);
+
+        assertNull(jwtTokenProvider.getUserDetails(token));
+        // 다른 토큰은 영향 없음
+        assertNotNull(jwtTokenProvider.getUserDetails(jwtTokenProvider.createAccessToken(member())));
+    }
+
+    @Test
+    void accessTokenWithoutJtiIsRejected() {
+        String token = Jwts.builder()
+                .subject("user@test.com")
+                .claim("mid", 1L)
+                .claim("name", "user")
+                .claim("auth", Role.JOB_SEEKER.getKey())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), Jwts.SIG.HS256)
+                .compact();
+
+        assertNull(jwtTokenProvider.getUserDetails(token));
+    }
+
+    @Test
+    void refreshTokenIsNotAnAccessToken() {
+        assertNull(jwtTokenProvider.getUserDetails(jwtTokenProvider.createRefreshToken("user@test.com")));
+    }
+
+    private static Member member() {
+        return Member.builder()
+                .memberId(1L)
+                .email("user@test.com")
+                .name("user")
+                .role(Role.JOB_SEEKER)
+                .build();
+    }
+}
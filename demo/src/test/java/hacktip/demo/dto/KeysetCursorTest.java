@@ -0,0 +1,70 @@
+package hacktip.demo.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripKeepsNanoseconds() {
+        LocalDateTime createDate = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789);
+        KeysetCursor cursor = new KeysetCursor(createDate, 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(createDate, decoded.getCreateDate());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void encodeDecodeRoundTripOnWholeSecond() {
+        // LocalDateTime.toString() 은 초 이하가 0 이면 초까지만 출력 -> 그래도 같은 값으로 복원되어야 함
+        LocalDateTime createDate = LocalDateTime.of(2025, 3, 1, 12, 30);
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(createDate, 7L).encode());
+
+        assertEquals(createDate, decoded.getCreateDate());
+        assertEquals(7L, decoded.getId());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_999), Long.MAX_VALUE).encode();
+
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode("   "));
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        assertBadRequest("not-base64!!");
+        assertBadRequest(encode("2025-03-01T12:30:15"));          // 구분자 없음
+        assertBadRequest(encode("yesterday|42"));                  // 날짜 형식 오류
+        assertBadRequest(encode("2025-03-01T12:30:15|abc"));       // ID 형식 오류
+        assertBadRequest(encode("2025-03-01T12:30:15|"));          // ID 없음
+    }
+
+    private static void assertBadRequest(String cursor) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> KeysetCursor.decode(cursor));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package hacktip.demo.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginRateLimiterTest {
+
+    // IP 20회 / 이메일 실패 3회, 분당 충전 1개 (테스트 중에는 사실상 충전되지 않음)
+    private final LoginRateLimiter limiter = new LoginRateLimiter(20, 1, 3, 1, 1_000);
+
+    @Test
+    void requestsWithoutFailuresDoNotLockTheEmail() {
+        // 다른 IP 들에서 같은 이메일로 여러 번 요청해도 실패가 없으면 잠기지 않음
+        for (int i = 0; i < 10; i++) {
+            String ip = "10.0.0." + i;
+            assertDoesNotThrow(() -> limiter.checkLogin(ip, "victim@example.com"));
+        }
+    }
+
+    @Test
+    void repeatedFailuresLockTheEmailAcrossIps() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("10.0.0.1", "target@example.com");
+            limiter.recordLoginFailure("target@example.com");
+        }
+
+        // 이메일은 대소문자를 구분하지 않고, 다른 IP 에서 와도 거절
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> limiter.checkLogin("10.0.0.2", "Target@Example.com"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatusCode());
+
+        assertDoesNotThrow(() -> limiter.checkLogin("10.0.0.2", "other@example.com"));
+    }
+
+    @Test
+    void ipBucketIsChargedOnEveryRequest() {
+        for (int i = 0; i < 20; i++) {
+            limiter.checkLogin("10.0.0.9", "user" + i + "@example.com");
+        }
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> limiter.checkLogin("10.0.0.9", "another@example.com"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> limiter.checkSignUp("10.0.0.9"));
+    }
+
+    @Test
+    void nullEmailOnlyChecksTheIp() {
+        assertDoesNotThrow(() -> limiter.checkLogin("10.0.0.3", null));
+        assertDoesNotThrow(() -> limiter.recordLoginFailure(null));
+    }
+}
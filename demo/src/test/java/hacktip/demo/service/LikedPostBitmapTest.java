@@ -0,0 +1,182 @@
+package hacktip.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LikedPostBitmapTest {
+
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void ofIgnoresDuplicatesAndOrder() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(new long[]{70_000, 5, 3, 5, 70_000, 1, 3});
+
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(70_000 - 65_536)); // 하위 16비트만 같은 다른 구간의 ID
+    }
+
+    @Test
+    void ofEmptyInputReturnsEmpty() {
+        assertSame(LikedPostBitmap.EMPTY, LikedPostBitmap.of(new long[0]));
+        assertEquals(0, LikedPostBitmap.EMPTY.cardinality());
+    }
+
+    @Test
+    void ofUsesBitmapContainerAboveArrayMax() {
+        LikedPostBitmap atLimit = LikedPostBitmap.of(range(0, ARRAY_MAX));
+        LikedPostBitmap overLimit = LikedPostBitmap.of(range(0, ARRAY_MAX + 1));
+
+        assertEquals(ARRAY_MAX, atLimit.cardinality());
+        assertEquals(ARRAY_MAX + 1, overLimit.cardinality());
+        assertTrue(firstContainer(atLimit) instanceof char[]);
+        assertTrue(firstContainer(overLimit) instanceof long[]);
+        for (long id = 0; id <= ARRAY_MAX; id++) {
+            assertTrue(overLimit.contains(id));
+        }
+        assertFalse(overLimit.contains(ARRAY_MAX + 1));
+    }
+
+    @Test
+    void withPromotesArrayToBitmapAboveArrayMax() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(range(0, ARRAY_MAX));
+        assertTrue(firstContainer(bitmap) instanceof char[]);
+
+        LikedPostBitmap promoted = bitmap.with(50_000);
+
+        assertEquals(ARRAY_MAX + 1, promoted.cardinality());
+        assertTrue(firstContainer(promoted) instanceof long[]);
+        assertTrue(promoted.contains(50_000));
+        assertTrue(promoted.contains(0));
+        assertTrue(promoted.contains(ARRAY_MAX - 1));
+        // 원본은 바뀌지 않음 (copy-on-write)
+        assertEquals(ARRAY_MAX, bitmap.cardinality());
+        assertFalse(bitmap.contains(50_000));
+    }
+
+    @Test
+    void withAddsToBitmapContainer() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(range(0, ARRAY_MAX + 1));
+
+        LikedPostBitmap added = bitmap.with(60_000);
+
+        assertEquals(ARRAY_MAX + 2, added.cardinality());
+        assertTrue(added.contains(60_000));
+        assertFalse(bitmap.contains(60_000));
+        assertEquals(ARRAY_MAX + 1, bitmap.cardinality());
+    }
+
+    @Test
+    void withExistingIdReturnsSameInstance() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(new long[]{10, 20});
+        assertSame(bitmap, bitmap.with(10));
+
+        LikedPostBitmap large = LikedPostBitmap.of(range(0, ARRAY_MAX + 1));
+        assertSame(large, large.with(100));
+    }
+
+    @Test
+    void withInsertsNewContainerInKeyOrder() {
+        LikedPostBitmap bitmap = LikedPostBitmap.EMPTY
+                .with(3L << 16)
+                .with(1L << 16)
+                .with(2L << 16);
+
+        assertEquals(3, bitmap.cardinality());
+        assertTrue(bitmap.contains(1L << 16));
+        assertTrue(bitmap.contains(2L << 16));
+        assertTrue(bitmap.contains(3L << 16));
+        assertFalse(bitmap.contains(4L << 16));
+        assertEquals(2, bitmap.without(2L << 16).cardinality());
+        assertTrue(bitmap.without(2L << 16).contains(3L << 16));
+    }
+
+    @Test
+    void withoutDemotesBitmapToArrayAtArrayMax() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(range(0, ARRAY_MAX + 1));
+
+        LikedPostBitmap demoted = bitmap.without(ARRAY_MAX);
+
+        assertEquals(ARRAY_MAX, demoted.cardinality());
+        assertTrue(firstContainer(demoted) instanceof char[]);
+        assertFalse(demoted.contains(ARRAY_MAX));
+        for (long id = 0; id < ARRAY_MAX; id++) {
+            assertTrue(demoted.contains(id));
+        }
+        // 원본은 그대로
+        assertTrue(bitmap.contains(ARRAY_MAX));
+        assertEquals(ARRAY_MAX + 1, bitmap.cardinality());
+    }
+
+    @Test
+    void withoutLastElementRemovesContainer() {
+        long other = (5L << 16) + 7;
+        LikedPostBitmap bitmap = LikedPostBitmap.of(new long[]{1, other});
+
+        LikedPostBitmap removed = bitmap.without(other);
+
+        assertEquals(1, removed.cardinality());
+        assertFalse(removed.contains(other));
+        assertTrue(removed.contains(1));
+        assertTrue(removed.sizeInBytes() < bitmap.sizeInBytes());
+
+        LikedPostBitmap empty = removed.without(1);
+        assertEquals(0, empty.cardinality());
+        assertFalse(empty.contains(1));
+        // 빈 비트맵에 다시 추가해도 정상 동작
+        assertTrue(empty.with(1).contains(1));
+        assertEquals(1, empty.with(1).cardinality());
+    }
+
+    @Test
+    void withoutMissingIdReturnsSameInstance() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(new long[]{10});
+        assertSame(bitmap, bitmap.without(11));
+        assertSame(bitmap, bitmap.without(10L + (1L << 16)));
+        assertSame(LikedPostBitmap.EMPTY, LikedPostBitmap.EMPTY.without(10));
+    }
+
+    @Test
+    void cardinalityTracksEveryWithAndWithout() {
+        LikedPostBitmap bitmap = LikedPostBitmap.EMPTY;
+        for (long id = 0; id <= ARRAY_MAX + 10; id++) {
+            bitmap = bitmap.with(id * 3);
+            assertEquals(id + 1, bitmap.cardinality());
+        }
+        for (long id = 0; id <= ARRAY_MAX + 10; id++) {
+            bitmap = bitmap.without(id * 3);
+            assertEquals(ARRAY_MAX + 10 - id, bitmap.cardinality());
+            assertFalse(bitmap.contains(id * 3));
+        }
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    // 배열(char[]) / 비트맵(long[]) 구간 중 어느 쪽인지 확인 (4096개에서는 두 형식의 크기가 같아서 sizeInBytes 로 구분 불가)
+    private static Object firstContainer(LikedPostBitmap bitmap) {
+        try {
+            Field field = LikedPostBitmap.class.getDeclaredField("containers");
+            field.setAccessible(true);
+            return ((Object[]) field.get(bitmap))[0];
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long[] range(long from, long toExclusive) {
+        long[] ids = new long[(int) (toExclusive - from)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = from + i;
+        }
+        return ids;
+    }
+}
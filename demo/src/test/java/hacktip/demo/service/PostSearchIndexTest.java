@@ -0,0 +1,167 @@
+package hacktip.demo.service;
+
+import hacktip.demo.dto.postDto.PostSearchDocDto;
+import hacktip.demo.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    // ========================= 토큰화 =========================
+
+    @Test
+    void tokenizeSplitsHangulIntoBigramsAndOtherTextIntoWords() {
+        assertEquals(List.of("스프", "프링", "boot", "입문"), PostSearchIndex.tokenize("스프링Boot 입문"));
+    }
+
+    @Test
+    void tokenizeKeepsSingleHangulSyllableAndLowercases() {
+        assertEquals(List.of("java", "및", "spring3"), PostSearchIndex.tokenize("JAVA 및 Spring3!"));
+    }
+
+    @Test
+    void tokenizeDropsPunctuationAndOverlongWords() {
+        String longWord = "a".repeat(41);
+        assertEquals(List.of("c", "api", "40"), PostSearchIndex.tokenize("C++ / API... (" + longWord + ") 40"));
+        assertEquals(List.of("a".repeat(40)), PostSearchIndex.tokenize("a".repeat(40)));
+    }
+
+    @Test
+    void tokenizeEmptyInput() {
+        assertTrue(PostSearchIndex.tokenize(null).isEmpty());
+        assertTrue(PostSearchIndex.tokenize("").isEmpty());
+        assertTrue(PostSearchIndex.tokenize(" ,.!? ").isEmpty());
+    }
+
+    // ========================= 순위 =========================
+
+    @Test
+    void titleMatchOutranksBodyMatch() {
+        PostSearchIndex index = newIndex(mock(PostRepository.class));
+        index.indexAfterCommit(1L, "일상 이야기", "오늘은 스프링 공부를 했다");
+        index.indexAfterCommit(2L, "스프링 정리", "오늘 공부한 내용");
+        index.indexAfterCommit(3L, "점심 메뉴", "김치찌개");
+
+        assertEquals(List.of(2L, 1L), index.search("스프링", 10));
+    }
+
+    @Test
+    void higherTermFrequencyRanksHigherAndRareTermsWeighMore() {
+        PostSearchIndex index = newIndex(mock(PostRepository.class));
+        index.indexAfterCommit(1L, "글", "java");
+        index.indexAfterCommit(2L, "글", "java java java");
+        index.indexAfterCommit(3L, "글", "java kotlin");
+        index.indexAfterCommit(4L, "글", "python");
+
+        List<Long> result = index.search("java", 10);
+        assertEquals(3, result.size());
+        assertEquals(2L, result.get(0)); // 단어 빈도가 가장 높음
+
+        // 드문 단어(kotlin)가 흔한 단어(java)보다 점수에 더 크게 기여
+        assertEquals(3L, index.search("java kotlin", 10).get(0));
+    }
+
+    @Test
+    void searchReturnsTopKAndBreaksTiesByNewestId() {
+        PostSearchIndex index = newIndex(mock(PostRepository.class));
+        for (long id = 1; id <= 5; id++) {
+            index.indexAfterCommit(id, "같은 제목", "같은 본문");
+        }
+
+        assertEquals(List.of(5L, 4L), index.search("제목", 2));
+        assertTrue(index.search("제목", 0).isEmpty());
+        assertTrue(index.search("없는단어", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void reindexReplacesOldTermsAndRemoveDropsPost() {
+        PostSearchIndex index = newIndex(mock(PostRepository.class));
+        index.indexAfterCommit(1L, "리액트", "프론트엔드");
+        index.indexAfterCommit(2L, "리액트 훅", "상태 관리");
+
+        index.indexAfterCommit(1L, "스프링", "백엔드"); // 수정
+        assertEquals(List.of(2L), index.search("리액트", 10));
+        assertEquals(List.of(1L), index.search("스프링", 10));
+
+        index.removeAfterCommit(2L); // 삭제
+        assertTrue(index.search("리액트", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("백엔드", 10));
+    }
+
+    // ========================= 스냅샷 =========================
+
+    @Test
+    void snapshotRoundTripCatchesUpOnlyChangedPosts() {
+        PostRepository firstRepository = mock(PostRepository.class);
+        when(firstRepository.findSearchDocsAfter(eq(0L), any())).thenReturn(List.of(
+                new PostSearchDocDto(1L, "스프링 입문", "빈 등록"),
+                new PostSearchDocDto(2L, "리액트 입문", "컴포넌트"),
+                new PostSearchDocDto(3L, "자바 입문", "컬렉션")));
+        PostSearchIndex first = newIndex(firstRepository);
+        first.initialize();
+        first.saveSnapshotIfDirty();
+        assertTrue(Files.exists(snapshotFile()));
+
+        // 재시작: 2번은 삭제, 3번은 수정, 4번은 새로 작성됨
+        PostRepository secondRepository = mock(PostRepository.class);
+        when(secondRepository.findAllPostIds()).thenReturn(List.of(1L, 3L, 4L));
+        when(secondRepository.findSearchDocsModifiedSince(any())).thenReturn(List.of(
+                new PostSearchDocDto(3L, "코틀린 입문", "코루틴"),
+                new PostSearchDocDto(4L, "도커 입문", "컨테이너")));
+        PostSearchIndex second = newIndex(secondRepository);
+        second.initialize();
+
+        assertEquals(List.of(1L), second.search("스프링", 10)); // 스냅샷에서 복원
+        assertTrue(second.search("리액트", 10).isEmpty());      // 삭제 반영
+        assertTrue(second.search("자바", 10).isEmpty());        // 수정 전 내용은 제거
+        assertEquals(List.of(3L), second.search("코틀린", 10));
+        assertEquals(List.of(4L), second.search("도커", 10));
+        assertEquals(List.of(4L, 3L, 1L), second.search("입문", 10));
+        // 스냅샷이 있으면 전체 구축(본문 전체 조회)을 하지 않음
+        verify(secondRepository, never()).findSearchDocsAfter(anyLong(), any());
+    }
+
+    @Test
+    void corruptedSnapshotFallsBackToFullRebuild() throws IOException {
+        Files.write(snapshotFile(), new byte[]{1, 2, 3, 4});
+        PostRepository repository = mock(PostRepository.class);
+        when(repository.findSearchDocsAfter(eq(0L), any())).thenReturn(List.of(
+                new PostSearchDocDto(7L, "스프링 시큐리티", "필터 체인")));
+
+        PostSearchIndex index = newIndex(repository);
+        index.initialize();
+
+        assertEquals(List.of(7L), index.search("시큐리티", 10));
+        verify(repository, never()).findSearchDocsModifiedSince(any());
+    }
+
+    private PostSearchIndex newIndex(PostRepository repository) {
+        PostSearchIndex index = new PostSearchIndex(repository);
+        ReflectionTestUtils.setField(index, "snapshotPath", snapshotFile().toString());
+        return index;
+    }
+
+    private Path snapshotFile() {
+        return tempDir.resolve("post-search-index.bin");
+    }
+}
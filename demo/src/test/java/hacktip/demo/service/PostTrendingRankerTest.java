@@ -0,0 +1,183 @@
+package hacktip.demo.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostTrendingRankerTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(24);
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-06-01T00:00:00Z"));
+
+    @Test
+    void eventsAreRankedByWeight() {
+        PostTrendingRanker ranker = newRanker();
+
+        ranker.recordLikeAfterCommit(1L, true);    // 5
+        ranker.recordCommentAfterCommit(2L, true); // 3
+        ranker.recordView(3L);                     // 1
+        ranker.foldViews();
+
+        assertEquals(List.of(1L, 2L, 3L), ranker.topPostIds(10));
+        assertEquals(List.of(1L, 2L), ranker.topPostIds(2));
+    }
+
+    @Test
+    void olderScoresDecayByHalfEveryHalfLife() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordLikeAfterCommit(1L, true);    // 5 -> 하루 뒤 2.5
+        ranker.recordCommentAfterCommit(2L, true); // 3 -> 하루 뒤 1.5
+
+        clock.advance(HALF_LIFE);
+        ranker.recordCommentAfterCommit(3L, true); // 3 (방금)
+        ranker.recordView(4L);                     // 1 (방금)
+        ranker.foldViews();
+
+        // 3 > 2.5 > 1.5 > 1
+        assertEquals(List.of(3L, 1L, 2L, 4L), ranker.topPostIds(10));
+    }
+
+    @Test
+    void scoresAccumulateAcrossEvents() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordLikeAfterCommit(1L, true); // 5
+        for (int i = 0; i < 6; i++) {
+            ranker.recordView(2L);              // 6 x 1
+        }
+        ranker.foldViews();
+
+        assertEquals(List.of(2L, 1L), ranker.topPostIds(10));
+
+        ranker.recordCommentAfterCommit(1L, true); // 5 + 3 = 8 > 6
+        assertEquals(List.of(1L, 2L), ranker.topPostIds(10));
+    }
+
+    @Test
+    void viewsAreOnlyRankedAfterFold() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordView(1L);
+        ranker.recordView(1L);
+
+        assertTrue(ranker.topPostIds(10).isEmpty());
+        ranker.foldViews();
+        assertEquals(List.of(1L), ranker.topPostIds(10));
+
+        // 이미 반영한 조회는 다시 더하지 않음 (조회 2 = 2점 < 좋아요 5점 유지)
+        ranker.recordLikeAfterCommit(2L, true);
+        ranker.foldViews();
+        ranker.foldViews();
+        assertEquals(List.of(2L, 1L), ranker.topPostIds(10));
+    }
+
+    @Test
+    void undoSubtractsAndRemovesWhenNothingLeft() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordLikeAfterCommit(1L, true);
+        ranker.recordLikeAfterCommit(2L, true);
+        ranker.recordView(2L);
+        ranker.foldViews();
+
+        ranker.recordLikeAfterCommit(1L, false); // 5 - 5 -> 제거
+        ranker.recordLikeAfterCommit(2L, false); // 6 - 5 = 1 -> 남음
+        assertEquals(List.of(2L), ranker.topPostIds(10));
+
+        ranker.recordCommentAfterCommit(3L, false); // 없는 게시물의 감소는 무시
+        assertEquals(List.of(2L), ranker.topPostIds(10));
+    }
+
+    @Test
+    void pruneDropsScoresBelowThreshold() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordView(1L);
+        ranker.foldViews();                     // 1점
+        clock.advance(HALF_LIFE.multipliedBy(4));
+        ranker.recordView(2L);
+        ranker.foldViews();
+
+        ranker.prune();
+        assertEquals(List.of(2L, 1L), ranker.topPostIds(10)); // 1/16 = 0.0625 >= 0.05
+
+        clock.advance(HALF_LIFE);
+        ranker.prune();
+        assertEquals(List.of(2L), ranker.topPostIds(10));     // 1/32 = 0.03125 < 0.05
+    }
+
+    @Test
+    void removedPostDropsPendingViews() {
+        PostTrendingRanker ranker = newRanker();
+        ranker.recordLikeAfterCommit(1L, true);
+        ranker.recordView(1L);
+
+        ranker.removeAfterCommit(1L);
+        ranker.foldViews();
+
+        assertTrue(ranker.topPostIds(10).isEmpty());
+    }
+
+    @Test
+    void snapshotRoundTripKeepsRankingAndMergesNewEvents() {
+        PostTrendingRanker first = newRanker();
+        first.recordLikeAfterCommit(1L, true);
+        first.recordCommentAfterCommit(2L, true);
+        first.recordView(3L);
+        first.saveSnapshotOnShutdown(); // 반영 전 조회 수까지 저장
+        assertTrue(Files.exists(snapshotFile()));
+
+        PostTrendingRanker second = newRanker();
+        second.recordLikeAfterCommit(3L, true); // 스냅샷 로드 전에 들어온 이벤트 (1 + 5 = 6)
+        second.loadSnapshot();
+
+        assertEquals(List.of(3L, 1L, 2L), second.topPostIds(10));
+    }
+
+    private PostTrendingRanker newRanker() {
+        return new PostTrendingRanker(HALF_LIFE, 1, 5, 3, snapshotFile().toString(), clock);
+    }
+
+    private Path snapshotFile() {
+        return tempDir.resolve("post-trending.bin");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -10,28 +10,53 @@ document.addEventListener('DOMContentLoaded', async () => {
     statsPostsByCategory: document.getElementById('stats-posts-by-category'),
   };
 
-  function initializeAdminPage() {
+  // [성능 개선] 게시글 관리 목록은 피드 API로 한 페이지씩 받아옴
+  const POST_PAGE_SIZE = 50;
+  let managedPosts = [];
+  let nextPostCursor = null;
+
+  // [수정] 전체 회원 목록은 관리자 페이지에서만 회원 페이지 API 로 나눠서 조회 (다른 페이지는 받지 않음)
+  let users = [];
+
+  async function loadAllUsers() {
+    const loaded = [];
+    let cursor = null;
+    do {
+      const page = await app.api.fetchUserPage(cursor, 100);
+      loaded.push(...page.users);
+      cursor = page.hasNext ? page.nextCursor : null;
+    } while (cursor);
+    return loaded.map(user => ({ id: user.id, name: user.name, role: user.role || '사용자' }));
+  }
+
+  async function initializeAdminPage() {
     if (!app.state.user || app.state.user.role !== '관리자') {
       app.utils.showNotification('접근 권한이 없습니다.', 'danger');
       setTimeout(() => { window.location.href = 'mainview.html'; }, 1500);
       return;
     }
 
+    try {
+      users = await loadAllUsers();
+    } catch (error) {
+      console.error('회원 목록 조회 실패:', error);
+      users = [];
+    }
+
     renderSiteStats();
     renderUserList();
-    renderPostManagementList();
+    loadPostManagementList(true);
   }
 
   async function renderSiteStats() {
     if (!elements.statsTotalUsers || !elements.statsTotalPosts || !elements.statsPostsByCategory) return;
 
-    const users = app.state.users || [];
-    const posts = app.state.posts || [];
     elements.statsTotalUsers.textContent = users.length;
-    elements.statsTotalPosts.textContent = posts.length;
 
     try {
       const categoryStats = await app.api.getPostStatsByCategory();
+      // [수정] 전체 게시글 수는 카테고리별 집계 합계로 계산 (전체 목록을 받지 않음)
+      elements.statsTotalPosts.textContent = (categoryStats || []).reduce((sum, stat) => sum + stat.count, 0);
 
       if (categoryStats && categoryStats.length > 0) {
         elements.statsPostsByCategory.innerHTML = categoryStats.map(stat => `
@@ -52,7 +77,6 @@ document.addEventListener('DOMContentLoaded', async () => {
 
   function renderUserList() {
     if (!elements.userList) return;
-    const users = app.state.users || [];
     const currentAdminName = app.state.user.name;
 
     const usersToDisplay = users.filter(user => user.name !== currentAdminName);
@@ -79,24 +103,46 @@ document.addEventListener('DOMContentLoaded', async () => {
     });
   }
 
+  async function loadPostManagementList(reset) {
+    if (!elements.postList) return;
+    if (reset) {
+      managedPosts = [];
+      nextPostCursor = null;
+    }
+    try {
+      const page = await app.api.fetchPostFeed(nextPostCursor, POST_PAGE_SIZE);
+      managedPosts = managedPosts.concat(page.posts);
+      nextPostCursor = page.hasNext ? page.nextCursor : null;
+    } catch (error) {
+      console.error('게시글 목록 로딩 실패:', error);
+    }
+    renderPostManagementList();
+  }
+
   function renderPostManagementList() {
     if (!elements.postList) return;
-    const posts = app.state.posts || [];
 
-    elements.postList.innerHTML = posts.map(post => `
+    elements.postList.innerHTML = managedPosts.map(post => `
       <li class="list-item">
         <div class="item-info">
           <div class="item-title">[${post.category}] ${post.title}</div>
           <div class="item-meta">
             <span>작성자: (${post.authorCategory || '사용자'}) ${post.author}</span> •
-            <span>작성일: ${app.utils.formatDate(post.createdAt)}</span>
+            <span>작성일: ${app.utils.formatDate(post.createDate)}</span>
           </div>
         </div>
         <div class="item-actions">
           <button class="btn btn--danger btn-delete-post" data-post-id="${post.id}">삭제</button>
         </div>
       </li>
-    `).join('');
+    `).join('') + (nextPostCursor ? `
+      <li class="list-item">
+        <button class="btn btn--ghost btn-more-posts" style="width: 100%;">더 보기</button>
+      </li>
+    ` : '');
+
+    const moreButton = elements.postList.querySelector('.btn-more-posts');
+    if (moreButton) moreButton.addEventListener('click', () => loadPostManagementList(false));
 
     elements.postList.querySelectorAll('.btn-delete-post').forEach(button => {
        button.removeEventListener('click', handleDeletePost);
@@ -112,7 +158,7 @@ document.addEventListener('DOMContentLoaded', async () => {
         await app.api.deleteUser(userId);
         app.utils.showNotification('사용자가 삭제되었습니다.', 'success');
         await app.initialize();
-        initializeAdminPage();
+        await initializeAdminPage();
       } catch (error) {
          app.utils.showNotification('사용자 삭제에 실패했습니다.', 'danger');
       }
@@ -126,7 +172,7 @@ document.addEventListener('DOMContentLoaded', async () => {
         await app.api.deletePost(postId);
         app.utils.showNotification('게시글이 삭제되었습니다.', 'success');
         await app.initialize();
-        initializeAdminPage();
+        await initializeAdminPage();
        } catch (error) {
             app.utils.showNotification('게시글 삭제에 실패했습니다.', 'danger');
        }
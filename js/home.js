@@ -108,17 +108,28 @@ document.addEventListener('DOMContentLoaded', async () => {
     }
   }
 
+  /**
+   * [신규] 피드 API의 첫 페이지만 받아오는 함수 (카테고리 지정 시 해당 카테고리 피드)
+   */
+  async function fetchLatestPosts(size, categoryName = null) {
+    try {
+      const page = await app.api.fetchPostFeed(null, size, categoryName);
+      return page.posts;
+    } catch (error) {
+      console.error('최신 게시글 로딩 실패:', error);
+      return [];
+    }
+  }
+
   /**
    * 최신 피드백 요청 목록을 렌더링하는 함수
    */
-  function renderLatestPosts() {
+  async function renderLatestPosts() {
     const postList = document.getElementById('home-post-list');
     if (!postList) return;
 
-    // app.state.posts에서 최신순으로 정렬 후 상위 5개만 가져옵니다.
-    const latestPosts = [...app.state.posts]
-      .sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt))
-      .slice(0, 5);
+    // [성능 개선] 피드 API로 최신 5개만 가져옵니다. (전체 목록을 받아 정렬하지 않음)
+    const latestPosts = await fetchLatestPosts(5);
 
     if (latestPosts.length === 0) {
       postList.innerHTML = '<li><p style="text-align: center; color: var(--text-secondary);">아직 등록된 피드백 요청이 없습니다.</p></li>';
@@ -134,7 +145,7 @@ document.addEventListener('DOMContentLoaded', async () => {
           </div>
           <div class="post-item-meta">
             <span>${post.author}</span>
-            <span>${app.utils.formatDate(post.createdAt)}</span>
+            <span>${app.utils.formatDate(post.createDate)}</span>
           </div>
         </a>
       </li>
@@ -144,15 +155,12 @@ document.addEventListener('DOMContentLoaded', async () => {
   /**
    * 최신 공지사항 목록을 렌더링하는 함수
    */
-  function renderNotices() {
+  async function renderNotices() {
     const noticeList = document.getElementById('notice-list');
     if (!noticeList) return;
 
-    // app.state.posts에서 카테고리가 '공지'인 게시글을 최신순으로 정렬 후 상위 3개만 가져옵니다.
-    const latestNotices = [...app.state.posts]
-      .filter(post => post.category === '공지')
-      .sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt))
-      .slice(0, 3);
+    // [성능 개선] '공지' 카테고리 피드에서 최신 3개만 가져옵니다.
+    const latestNotices = await fetchLatestPosts(3, '공지');
 
     if (latestNotices.length === 0) {
       noticeList.innerHTML = '<li><p style="text-align: center; color: var(--text-secondary);">등록된 공지사항이 없습니다.</p></li>';
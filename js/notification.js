@@ -1,6 +1,7 @@
 /**
  * 알림 기능 JS
- * 서버 API: /api/notifications
+ * 서버 API: /api/notifications/page (커서 페이지), /api/notifications/read-all (일괄 읽음)
+ * 실시간: STOMP /user/queue/notifications (새 알림 + 안 읽은 수 변화량)
  */
 
 document.addEventListener('DOMContentLoaded', async () => {
@@ -15,23 +16,98 @@ document.addEventListener('DOMContentLoaded', async () => {
         bellIcon: document.getElementById('bell-icon'),
         badge: document.getElementById('notification-badge'),
         listContainer: document.getElementById('notification-list'),
-        itemsUl: document.getElementById('notification-items-container')
+        itemsUl: document.getElementById('notification-items-container'),
+        moreBtn: document.getElementById('notification-more'),
+        readAllBtn: document.getElementById('notification-read-all')
     };
 
     if (!elements.bellIcon || !elements.listContainer) return;
 
-    // 알림 데이터 가져오기
+    // 현재 화면에 표시 중인 알림 목록 / 안 읽은 알림 수 / 다음 페이지 커서
+    let notifications = [];
+    let unreadCount = 0;
+    let nextCursor = null;
+
+    // [변경] 알림 첫 페이지 가져오기 (전체 목록 대신 커서 페이지, 안 읽은 수는 서버 카운터 사용)
     async function fetchNotifications() {
         try {
-            // 서버에서 모든 알림(읽은 것 + 안 읽은 것)을 최신순으로 가져옵니다.
-            const notifications = await app.api.fetchNotifications();
-            // 읽지 않은 알림만 카운트 (JSON 필드명이 isRead 또는 read 일 수 있음)
-            const unreadCount = notifications.filter(n => !(n.isRead || n.read)).length;
+            const slice = await app.api.fetchNotificationPage();
+            notifications = slice.notifications;
+            applySlice(slice);
+        } catch (error) {
+            console.error('알림 로드 실패:', error);
+        }
+    }
+
+    // [신규] 다음 페이지를 목록 뒤에 이어 붙임
+    async function fetchMoreNotifications() {
+        if (!nextCursor) return;
+        try {
+            const slice = await app.api.fetchNotificationPage(nextCursor);
+            // 그 사이 새 알림이 도착해도 ID 커서 기준이라 중복되지 않음
+            notifications = notifications.concat(slice.notifications);
+            applySlice(slice);
+        } catch (error) {
+            console.error('알림 추가 로드 실패:', error);
+        }
+    }
+
+    function applySlice(slice) {
+        nextCursor = slice.hasNext ? slice.nextCursor : null;
+        unreadCount = slice.unreadCount;
+        updateBadge(unreadCount);
+        renderNotifications(notifications);
+    }
+
+    // [신규] 화면에 표시된 최신 알림까지 한 번에 읽음 처리 (그 뒤에 도착한 알림은 남김)
+    async function readAllNotifications() {
+        if (notifications.length === 0 || unreadCount === 0) return;
+        try {
+            const upToId = Math.max(...notifications.map(n => n.id));
+            const result = await app.api.readAllNotifications(upToId);
+            notifications.forEach(n => { n.isRead = true; });
+            unreadCount = result.unreadCount;
             updateBadge(unreadCount);
             renderNotifications(notifications);
         } catch (error) {
-            console.error('알림 로드 실패:', error);
+            console.error('알림 일괄 읽음 처리 실패:', error);
+        }
+    }
+
+    // 서버가 보낸 새 알림을 목록 맨 앞에 추가 (다시 조회하지 않음)
+    function handlePushedNotification(message) {
+        const push = JSON.parse(message.body);
+        if (notifications.some(n => n.id === push.notification.id)) return; // 재연결 직후 조회 결과와 중복 방지
+        // 기존 알림에 합쳐진 경우 (새 ID를 받음) 예전 항목을 빼고 맨 위에 표시
+        if (push.replacedId) {
+            notifications = notifications.filter(n => n.id !== push.replacedId);
         }
+        notifications.unshift(push.notification);
+        unreadCount = Math.max(0, unreadCount + push.unreadDelta);
+        updateBadge(unreadCount);
+        renderNotifications(notifications);
+    }
+
+    // 실시간 알림 구독 (재접속하면 한 번 조회해서 끊겨 있던 동안의 알림을 맞춤)
+    function subscribeNotifications() {
+        let connectedOnce = false;
+        const client = new StompJs.Client({
+            brokerURL: 'ws://localhost:8080/ws-stomp',
+            connectHeaders: {
+                Authorization: `Bearer ${localStorage.getItem('accessToken')}`
+            },
+            reconnectDelay: 5000,
+            onConnect: () => {
+                client.subscribe('/user/queue/notifications', handlePushedNotification);
+                if (connectedOnce) fetchNotifications();
+                connectedOnce = true;
+            },
+            onWebSocketError: (event) => {
+                console.error('WebSocket error:', event);
+            }
+        });
+        client.activate();
+        window.addEventListener('beforeunload', () => client.deactivate());
     }
 
     // 뱃지 업데이트
@@ -51,6 +127,7 @@ document.addEventListener('DOMContentLoaded', async () => {
     // 알림 목록 렌더링
     function renderNotifications(notifications) {
         if (!elements.itemsUl) return;
+        if (elements.moreBtn) elements.moreBtn.style.display = nextCursor ? 'block' : 'none';
 
         if (notifications.length === 0) {
             elements.itemsUl.innerHTML = '<li class="notification-empty" style="padding:15px; text-align:center; color:#888;">새로운 알림이 없습니다.</li>';
@@ -81,6 +158,8 @@ document.addEventListener('DOMContentLoaded', async () => {
                 if (notificationId && item.classList.contains('unread')) {
                     try {
                         await app.api.readNotification(notificationId);
+                        unreadCount = Math.max(0, unreadCount - 1);
+                        updateBadge(unreadCount);
                     } catch (error) {
                         console.error('알림 읽음 처리 실패:', error);
                     }
@@ -100,6 +179,15 @@ document.addEventListener('DOMContentLoaded', async () => {
         elements.listContainer.classList.toggle('show');
     });
 
+    if (elements.moreBtn) elements.moreBtn.addEventListener('click', (e) => {
+        e.stopPropagation();
+        fetchMoreNotifications();
+    });
+    if (elements.readAllBtn) elements.readAllBtn.addEventListener('click', (e) => {
+        e.stopPropagation();
+        readAllNotifications();
+    });
+
     // 외부 클릭 시 닫기
     document.addEventListener('click', (e) => {
         if (!elements.listContainer.contains(e.target) && !elements.bellIcon.contains(e.target)) {
@@ -116,10 +204,18 @@ document.addEventListener('DOMContentLoaded', async () => {
         .notification-item.unread .notification-message { font-weight: 600; color: #111; }
         .notification-date { font-size: 0.8rem; color: #888; margin-top: 4px; }
         .notification-list.show { display: block; } /* 토글용 클래스 */
+        .notification-list-header { display: flex; justify-content: space-between; align-items: center; }
+        .notification-read-all { background: none; border: none; color: #2563eb; font-size: 0.8rem; cursor: pointer; }
+        .notification-more { width: 100%; padding: 10px; background: none; border: none; border-top: 1px solid #eee; color: #555; cursor: pointer; }
     `;
     document.head.appendChild(style);
 
-    // 초기 로드 및 1분마다 갱신
+    // 초기 로드 (이후에는 서버가 새 알림을 바로 보내주므로 주기적으로 다시 조회하지 않음)
     fetchNotifications();
-    setInterval(fetchNotifications, 60000);
+    if (window.StompJs) {
+        subscribeNotifications();
+    } else {
+        // STOMP 라이브러리를 불러오지 못한 경우에만 1분마다 갱신
+        setInterval(fetchNotifications, 60000);
+    }
 });
\ No newline at end of file
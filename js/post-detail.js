@@ -18,7 +18,7 @@ document.addEventListener('DOMContentLoaded', async () => {
     let post;
     let originalPostData;
     try {
-        originalPostData = await app.api.fetchPostById(postId);
+        originalPostData = await app.api.fetchPostById(postId, { embedComments: true });
 
         // 서버 응답 데이터를 프론트엔드 모델로 변환합니다.
         post = {
@@ -31,7 +31,8 @@ document.addEventListener('DOMContentLoaded', async () => {
             createdAt: originalPostData.createDate,
             category: originalPostData.category,
             portfolioLink: originalPostData.githubUrl,
-            isLiked: originalPostData.isLiked
+            isLiked: originalPostData.isLiked,
+            commentCount: originalPostData.commentCount
         };
     } catch (error) {
         console.error("Failed to fetch post:", error);
@@ -60,6 +61,8 @@ document.addEventListener('DOMContentLoaded', async () => {
         await app.api.createComment(post.id, { contents: content });
         
         contentEl.value = '';
+        post.commentCount += 1;
+        updateCounterDisplay();
         loadComments(post);
     }
 
@@ -68,6 +71,8 @@ document.addEventListener('DOMContentLoaded', async () => {
             try {
                 await app.api.deleteComment(commentId);
                 app.utils.showNotification('댓글이 삭제되었습니다.', 'success');
+                post.commentCount = Math.max(0, post.commentCount - 1);
+                updateCounterDisplay();
                 loadComments(post);
             } catch (error) {
                 app.utils.showNotification('댓글 삭제에 실패했습니다.', 'danger');
@@ -107,19 +112,44 @@ document.addEventListener('DOMContentLoaded', async () => {
         });
     }
 
-    async function loadComments(post) {
-        const commentList = document.getElementById('comment-list');
-        if (!commentList) return;
-        
-        const commentsFromServer = await app.api.fetchComments(post.id);
-        const comments = commentsFromServer.map(c => ({
+    // 댓글 커서 페이지 상태 (첫 페이지는 게시글 상세 응답에 함께 받음)
+    const commentState = { comments: [], nextCursor: null, hasNext: false };
+
+    function applyCommentPage(page, append) {
+        const comments = page.comments.map(c => ({
             id: c.commentId,
             content: c.contents,
             authorName: c.authorName,
             createdAt: c.createDate,
             isBest: c.isBest || false
         }));
+        commentState.comments = append ? commentState.comments.concat(comments) : comments;
+        commentState.nextCursor = page.nextCursor;
+        commentState.hasNext = page.hasNext;
+        renderComments();
+    }
+
+    // 댓글 작성/수정/삭제 후 첫 페이지부터 다시 불러옴
+    async function loadComments(post) {
+        const page = await app.api.fetchCommentPage(post.id);
+        applyCommentPage(page, false);
+    }
+
+    async function loadMoreComments() {
+        if (!commentState.hasNext) return;
+        try {
+            const page = await app.api.fetchCommentPage(post.id, commentState.nextCursor);
+            applyCommentPage(page, true);
+        } catch (error) {
+            app.utils.showNotification('댓글을 더 불러오지 못했습니다.', 'danger');
+        }
+    }
+
+    function renderComments() {
+        const commentList = document.getElementById('comment-list');
+        if (!commentList) return;
 
+        const comments = commentState.comments;
         const isPostAuthor = currentUser && currentUser.name === post.author;
 
         commentList.innerHTML = comments.length > 0 ? comments.map(comment => {
@@ -148,10 +178,50 @@ document.addEventListener('DOMContentLoaded', async () => {
         commentList.querySelectorAll('.comment-author').forEach(el => el.addEventListener('click', handleAuthorClick));
         commentList.querySelectorAll('.btn-delete-comment').forEach(btn => btn.addEventListener('click', () => handleDeleteComment(parseInt(btn.dataset.commentId))));
         commentList.querySelectorAll('.btn-edit-comment').forEach(btn => btn.addEventListener('click', () => handleEditComment(parseInt(btn.dataset.commentId), unescape(btn.dataset.commentContent))));
+
+        const moreButton = document.getElementById('btn-more-comments');
+        if (moreButton) moreButton.style.display = commentState.hasNext ? '' : 'none';
+    }
+
+    // 좋아요/댓글 수 표시 갱신 (버튼 클릭, 댓글 로딩, 실시간 메시지에서 공통 사용)
+    function updateCounterDisplay() {
+        const likeButton = document.getElementById(`like-button-${post.id}`);
+        if (likeButton) likeButton.textContent = `❤️ 좋아요 (${post.likes || 0})`;
+
+        const commentTitle = document.querySelector('.comment-title');
+        if (commentTitle) {
+            commentTitle.textContent = `💬 피드백 (${post.commentCount})`;
+        }
+    }
+
+    // 다른 사용자의 좋아요/댓글 수 변화를 실시간으로 받음 (서버가 게시물당 초당 몇 번으로 묶어서 전송)
+    function subscribeCounters() {
+        if (!window.StompJs) return;
+
+        const token = localStorage.getItem('accessToken');
+        const client = new StompJs.Client({
+            brokerURL: 'ws://localhost:8080/ws-stomp',
+            connectHeaders: token ? { Authorization: `Bearer ${token}` } : {},
+            reconnectDelay: 5000,
+            onConnect: () => {
+                client.subscribe(`/topic/post/${post.id}`, (message) => {
+                    const counters = JSON.parse(message.body);
+                    post.likes = counters.likesCount;
+                    post.commentCount = counters.commentCount;
+                    updateCounterDisplay();
+                });
+            },
+            onWebSocketError: (event) => {
+                console.error('WebSocket error:', event);
+            }
+        });
+        client.activate();
+        window.addEventListener('beforeunload', () => client.deactivate());
     }
 
     async function renderPostDetail() {
 
+        await app.loadUsers([post.author]);
         const authorInfo = app.state.users.find(u => u.name === post.author);
         const authorCategory = authorInfo ? authorInfo.role : '사용자'; // 작성자 역할(role) 정보
 
@@ -210,6 +280,7 @@ document.addEventListener('DOMContentLoaded', async () => {
                 </div>
               </form>
               <ul id="comment-list" class="comment-list"><li>댓글 로딩 중...</li></ul>
+              <button id="btn-more-comments" class="btn btn--ghost" style="display: none; margin-top: 1rem;">댓글 더 보기</button>
             </div>
         `;
 
@@ -227,12 +298,15 @@ document.addEventListener('DOMContentLoaded', async () => {
                     return;
                 }
                 try {
-                    const response = await app.api.toggleLike(post.id);
+                    // 현재 상태에 따라 등록/취소 요청 (여러 번 눌려도 서버 결과는 같음)
+                    const response = post.isLiked
+                        ? await app.api.unlikePost(post.id)
+                        : await app.api.likePost(post.id);
                     
                     post.likes = response.likesCount;
                     post.isLiked = response.isLiked;
 
-                    likeButton.textContent = `❤️ 좋아요 (${post.likes || 0})`;
+                    updateCounterDisplay();
 
                     if (post.isLiked) {
                         // 'is-liked' 클래스를 추가하여 활성화 스타일을 적용합니다.
@@ -262,12 +336,22 @@ document.addEventListener('DOMContentLoaded', async () => {
             });
         }
 
-        loadComments(post);
+        const moreButton = document.getElementById('btn-more-comments');
+        if (moreButton) moreButton.addEventListener('click', loadMoreComments);
+
+        // 첫 댓글 페이지는 게시글 응답에 포함되어 있으면 그대로 사용
+        if (originalPostData.comments) {
+            applyCommentPage(originalPostData.comments, false);
+        } else {
+            loadComments(post);
+        }
+        updateCounterDisplay();
         const commentForm = document.getElementById('comment-form');
         if (commentForm) commentForm.addEventListener('submit', (e) => handleCommentSubmit(e, post));
     }
 
     renderPostDetail();
+    subscribeCounters();
 
     // 새로운 디자인을 위한 스타일 동적 추가
     const style = document.createElement('style');
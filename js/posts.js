@@ -4,8 +4,11 @@ document.addEventListener('DOMContentLoaded', async () => {
 
   const pageState = {
     currentPage: 1,
-    postsPerPage: 8,
-    filteredPosts: [],
+    postsPerPage: 20,
+    pagePosts: [],
+    totalPages: 1,
+    totalElements: 0,
+    truncated: false,
     currentCategory: 'all',
     sortBy: 'latest',
   };
@@ -110,60 +113,48 @@ document.addEventListener('DOMContentLoaded', async () => {
   async function handleSelectBestClick(post, commentIdStr) { /* ... (이전과 동일) ... */ }
   async function handleMarkAsResolved(postId) { /* ... (이전과 동일) ... */ }
   
-  function renderAll() {
-    updateFilteredPosts();
+  async function renderAll() {
+    await loadPostPage();
     renderPostList();
     renderPagination();
   }
 
-  function updateFilteredPosts() {
-    const term = (pageState.currentSearchTerm || '').toLowerCase();
-
-    const filtered = app.state.posts.filter((post) => {
-      const categoryMatch = pageState.currentCategory === 'all' || post.category === pageState.currentCategory;
-
-      const contentSearchMatch = (post.content || '').toLowerCase().includes(term);
-      const searchTermMatch = !term || post.title.toLowerCase().includes(term) || contentSearchMatch;
-
-      const authorMatch = !pageState.currentAuthor || post.author === pageState.currentAuthor; 
-
-      const tagMatch = true; 
-
-      return categoryMatch && searchTermMatch && authorMatch;
-    });
-
-    
-    const enhancedPosts = filtered.map(post => {
+  // 현재 조건(카테고리/작성자/검색어/정렬/페이지)에 맞는 한 페이지만 서버에서 조회
+  async function loadPostPage() {
+    const { currentCategory, currentAuthor, currentSearchTerm, sortBy, currentPage, postsPerPage } = pageState;
+    try {
+      const result = await app.api.queryPosts({
+        category: currentCategory !== 'all' ? currentCategory : null,
+        author: currentAuthor || null,
+        q: (currentSearchTerm || '').trim() || null,
+        sort: sortBy,
+        page: currentPage - 1,
+        size: postsPerPage,
+      });
+      pageState.totalPages = Math.max(1, result.totalPages);
+      pageState.totalElements = result.totalElements;
+      pageState.truncated = result.truncated; // 검색 결과가 많아 관련도 상위 일부만 조회된 경우
+      await app.loadUsers(result.posts.map(post => post.author)); // 작성자 역할 표시용 (이 페이지 작성자만)
+      pageState.pagePosts = result.posts.map(post => {
         const authorInfo = app.state.users.find(u => u.name === post.author);
         const authorCategory = authorInfo ? authorInfo.role : '사용자';
-        const popularity = (post.likes || 0) + (post.insights || []).length;
-        return { ...post, authorCategory, popularity };
-    });
-
-    enhancedPosts.sort((a, b) => {
-      switch (pageState.sortBy) {
-        case 'popular': return b.popularity - a.popularity;
-        case 'comments': return b.commentCount - a.commentCount;
-        case 'latest': default:
-          if (a.isImportant && !b.isImportant) return -1;
-          if (!a.isImportant && b.isImportant) return 1;
-          return b.createdAt - a.createdAt;
-      }
-    });
-    pageState.filteredPosts = enhancedPosts;
+        return { ...post, authorCategory, createdAt: post.createDate, likes: post.likesCount };
+      });
+    } catch (error) {
+      console.error('게시글 목록 조회 실패:', error);
+      pageState.totalPages = 1;
+      pageState.truncated = false;
+      pageState.pagePosts = [];
+    }
   }
 
   function renderPostList() {
-    const { currentPage, postsPerPage, filteredPosts } = pageState;
-    const totalPages = Math.max(1, Math.ceil(filteredPosts.length / postsPerPage));
-    pageState.currentPage = Math.min(Math.max(1, currentPage), totalPages);
-    const startIndex = (pageState.currentPage - 1) * postsPerPage;
-    const paginatedPosts = filteredPosts.slice(startIndex, startIndex + postsPerPage);
+    const { pagePosts } = pageState;
     if (elements.postList) {
-      if (paginatedPosts.length === 0) {
+      if (pagePosts.length === 0) {
         elements.postList.innerHTML = '<li class="post-item" style="text-align: center; color: var(--text-secondary); padding: 2rem;">선택한 조건에 맞는 게시글이 없습니다.</li>';
       } else {
-        elements.postList.innerHTML = paginatedPosts.map(post => createPostItemHTML(post)).join('');
+        elements.postList.innerHTML = pagePosts.map(post => createPostItemHTML(post)).join('');
       }
     }
   }
@@ -171,7 +162,7 @@ document.addEventListener('DOMContentLoaded', async () => {
   function createPostItemHTML(post) {
       const authorCategory = post.authorCategory || '사용자';
       const tag = '';
-      const reactionHTML = `❤️ ${post.likes || 0}`;
+      const reactionHTML = `${post.isLiked ? '❤️' : '🤍'} ${post.likes || 0}`;
 
       return `
         <li class="post-item" data-post-id="${post.id}">
@@ -194,7 +185,7 @@ document.addEventListener('DOMContentLoaded', async () => {
           const reactionEl = item.querySelector('.post-item-meta span:nth-child(4)');
           const commentEl = item.querySelector('.post-item-meta span:nth-child(5)');          
           if(viewsEl) viewsEl.textContent = `조회 ${post.views || 0}`;
-          if(reactionEl) reactionEl.textContent = `❤️ ${post.likes || 0}`;
+          if(reactionEl) reactionEl.textContent = `${post.isLiked ? '❤️' : '🤍'} ${post.likes || 0}`;
           if (commentEl && typeof post.commentCount !== 'undefined') {
               commentEl.textContent = `💬 ${post.commentCount}`;
           }
@@ -202,17 +193,18 @@ document.addEventListener('DOMContentLoaded', async () => {
   }
 
   function renderPagination() {
-    const { currentPage, postsPerPage, filteredPosts } = pageState;
-    const totalPages = Math.max(1, Math.ceil(filteredPosts.length / postsPerPage));
+    const { currentPage, totalPages, totalElements, truncated } = pageState;
     if (elements.pageInfo)
-      elements.pageInfo.textContent = `${currentPage} / ${totalPages}`;
+      elements.pageInfo.textContent = truncated
+        ? `${currentPage} / ${totalPages} (관련도 상위 ${totalElements}건만 표시)`
+        : `${currentPage} / ${totalPages}`;
     if (elements.prevButton) elements.prevButton.disabled = currentPage <= 1;
     if (elements.nextButton)
       elements.nextButton.disabled = currentPage >= totalPages;
   }
 
   function changePage(direction) {
-    pageState.currentPage += direction;
+    pageState.currentPage = Math.min(Math.max(1, pageState.currentPage + direction), pageState.totalPages);
     renderAll();
   }
 
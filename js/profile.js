@@ -1,3 +1,6 @@
+// [신규] 프로필에 보여줄 최근 글/댓글 개수 (서버 최대 페이지 크기 이내)
+const PROFILE_LIST_SIZE = 50;
+
 function renderUserPosts(userPosts, currentUser, profileUser) {
     const postsList = document.getElementById('profile-posts-list');
     if (userPosts.length === 0) {
@@ -22,7 +25,7 @@ function renderUserPosts(userPosts, currentUser, profileUser) {
     }
 }
 
-function renderUserComments(userComments, allPosts) {
+function renderUserComments(userComments) {
     const commentsList = document.getElementById('profile-comments-list');
     if (userComments.length === 0) {
         commentsList.innerHTML = '<li>남긴 댓글이 없습니다.</li>';
@@ -30,8 +33,7 @@ function renderUserComments(userComments, allPosts) {
         commentsList.innerHTML = userComments
             .sort((a, b) => b.createdAt - a.createdAt)
             .map(comment => {
-                const originalPost = allPosts.find(p => p.id == comment.postId);
-                const postTitle = originalPost ? originalPost.title : '삭제된 게시글';
+                const postTitle = comment.postTitle || '삭제된 게시글';
                 const shortComment = (comment.content || '').length > 100 ? comment.content.substring(0, 100) + '...' : (comment.content || '');
                 return `
                   <li class="profile-comment-item">
@@ -160,8 +162,7 @@ document.addEventListener('DOMContentLoaded', async () => {
     }
 
     async function initializeProfilePage() {
-        const allUsers = app.state.users;
-        const allPosts = app.state.posts;
+        const allUsers = await app.loadUsers([targetUserName]);
 
         const profileUser = allUsers.find(u => u.name === targetUserName);
 
@@ -204,18 +205,30 @@ document.addEventListener('DOMContentLoaded', async () => {
             document.getElementById('profile-tech-stacks').innerHTML = '<p>기술 스택을 불러오는 데 실패했습니다.</p>';
         }
 
-        const userPosts = allPosts.filter(p => p.author === profileUser.name);
-        const allCommentsRaw = await app.api.fetchAllComments() || [];
-        const allComments = allCommentsRaw.map(c => ({
-            id: c.commentId,
-            content: c.contents,
-            author: c.authorName,
-            createdAt: c.createDate,
-            postId: c.postId 
-        }));
-        const userComments = allComments.filter(c => c.author === profileUser.name);
+        // [성능 개선] 전체 게시글/댓글을 받아 거르지 않고, 이 사용자의 최근 글/댓글만 서버에서 받아옴
+        let userPosts = [];
+        let userComments = [];
+        try {
+            const postPage = await app.api.queryPosts({ author: profileUser.name, size: PROFILE_LIST_SIZE });
+            userPosts = postPage.posts.map(p => ({
+                ...p,
+                createdAt: p.createDate,
+                likes: p.likesCount
+            }));
+            const commentsRaw = await app.api.fetchRecentComments(profileUser.name, null, PROFILE_LIST_SIZE) || [];
+            userComments = commentsRaw.map(c => ({
+                id: c.commentId,
+                content: c.contents,
+                author: c.authorName,
+                createdAt: c.createDate,
+                postId: c.postId,
+                postTitle: c.postTitle
+            }));
+        } catch (error) {
+            console.error("Failed to fetch posts/comments for user:", error);
+        }
         renderUserPosts(userPosts, currentUser, profileUser);
-        renderUserComments(userComments, allPosts);
+        renderUserComments(userComments);
 
         const tabContainer = document.querySelector('.profile-tabs');
         if (tabContainer) {
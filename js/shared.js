@@ -48,13 +48,15 @@ window.CommunityApp = {
     },
 
     async parseMentionsAndCreateNotifications(content, link, authorUser) {
-        const users = await window.CommunityApp.api.fetchAllUsers();
         const mentions = content.match(/@(\w+)/g);
         if (!mentions) return;
+        // [수정] 전체 회원 목록 대신 멘션된 이름만 조회
+        const names = [...new Set(mentions.map(mention => mention.substring(1)))]
+            .filter(name => name !== authorUser.name);
+        if (names.length === 0) return;
+        const users = await window.CommunityApp.api.fetchUsersByNames(names);
         const mentionedUserIds = new Set();
-        for (const mention of mentions) {
-            const userId = mention.substring(1);
-            if (userId === authorUser.name) continue;
+        for (const userId of names) {
             const userExists = users.some(u => u.name === userId);
             if (userExists) {
                 mentionedUserIds.add(userId);
@@ -107,12 +109,53 @@ window.CommunityApp = {
     async fetchPosts() {
       return this.request('/api/posts');
     }
-    ,async fetchPostById(postId) {
-      return this.request(`/api/posts/${postId}`);
+    ,async fetchPostFeed(cursor = null, size = null, categoryName = null) {
+      const params = new URLSearchParams();
+      if (cursor) params.set('cursor', cursor);
+      if (size) params.set('size', size);
+      const path = categoryName ? `/api/posts/category/${encodeURIComponent(categoryName)}/feed` : '/api/posts/feed';
+      const query = params.toString();
+      return this.request(query ? `${path}?${query}` : path);
+    }
+    ,async queryPosts(criteria = {}) {
+      const params = new URLSearchParams();
+      Object.entries(criteria).forEach(([key, value]) => {
+        if (value !== null && value !== undefined && value !== '') params.set(key, value);
+      });
+      return this.request(`/api/posts/query?${params.toString()}`);
+    }
+    ,async fetchTrendingPosts(size = null) {
+      return this.request(size ? `/api/posts/trending?size=${size}` : '/api/posts/trending');
+    }
+    ,async searchPosts(term, size = null) {
+      const params = new URLSearchParams({ q: term });
+      if (size) params.set('size', size);
+      return this.request(`/api/posts/search?${params.toString()}`);
+    }
+    ,async fetchPostById(postId, options = {}) {
+      // embedComments: 첫 댓글 페이지를 게시글 응답에 함께 받음 (댓글 요청을 따로 보내지 않음)
+      const query = options.embedComments ? '?embed=comments' : '';
+      return this.request(`/api/posts/${postId}${query}`);
     },
     async fetchAllUsers() {
       return this.request('/api/users');
     },
+    // [신규] 회원 목록 커서 페이지 (filters: { role, stack })
+    async fetchUserPage(cursor = null, size = null, filters = {}) {
+      const params = new URLSearchParams();
+      if (cursor) params.set('cursor', cursor);
+      if (size) params.set('size', size);
+      if (filters.role) params.set('role', filters.role);
+      if (filters.stack) params.set('stack', filters.stack);
+      const query = params.toString();
+      return this.request(query ? `/api/users/page?${query}` : '/api/users/page');
+    },
+    // [신규] 이름으로 회원 조회 (화면에 표시할 작성자/멘션 대상만, 한 번에 최대 100명)
+    async fetchUsersByNames(names) {
+      const params = new URLSearchParams();
+      names.slice(0, 100).forEach(name => params.append('names', name));
+      return this.request(`/api/users/by-name?${params.toString()}`);
+    },
     async deleteUser(memberId) { // 응답이 text/plain 이므로 request 헬퍼를 사용하지 않음
       const response = await fetch(`${this.BASE_URL}/api/members/${memberId}`, {
         method: 'DELETE',
@@ -162,6 +205,10 @@ window.CommunityApp = {
     async fetchComments(postId) {
       return this.request(`/api/posts/${postId}/comments`);
     },
+    async fetchCommentPage(postId, cursor = null) {
+      const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+      return this.request(`/api/posts/${postId}/comments/feed${query}`);
+    },
     async createComment(postId, commentData) {
        const response = await fetch(`${this.BASE_URL}/api/posts/${postId}/comments`, { method: 'POST', headers: this.getAuthHeaders(), body: JSON.stringify(commentData) });
        if (!response.ok) { throw new Error('댓글 생성에 실패했습니다.'); }
@@ -183,8 +230,11 @@ window.CommunityApp = {
       console.warn("sendChatMessage should be handled by WebSocket.");
       return messageData;
     },
-    async toggleLike(postId) {
-        return this.request(`/api/posts/${postId}/like`, { method: 'POST' });
+    async likePost(postId) {
+        return this.request(`/api/posts/${postId}/like`, { method: 'PUT' });
+    },
+    async unlikePost(postId) {
+        return this.request(`/api/posts/${postId}/like`, { method: 'DELETE' });
     },
     async getMyStacks() {
       return this.request('/api/members/me/stacks');
@@ -195,8 +245,13 @@ window.CommunityApp = {
     async updateMyStacks(stackNames) {
       return this.request('/api/members/me/stacks', { method: 'PUT', body: JSON.stringify({ stackNames: stackNames }) });
     },
-    async fetchAllComments() {
-      return this.request('/api/comments');
+    async fetchRecentComments(author = null, before = null, size = null) {
+      const params = new URLSearchParams();
+      if (author) params.set('author', author);
+      if (before) params.set('before', before);
+      if (size) params.set('size', size);
+      const query = params.toString();
+      return this.request(query ? `/api/comments?${query}` : '/api/comments');
     },
     async getStacksByUserName(userName) {
       return this.request(`/api/members/${userName}/stacks`);
@@ -210,9 +265,20 @@ window.CommunityApp = {
     ,async fetchNotifications() {
       return this.request('/api/notifications');
     }
+    ,async fetchNotificationPage(cursor = null, size = null) {
+      const params = new URLSearchParams();
+      if (cursor) params.set('cursor', cursor);
+      if (size) params.set('size', size);
+      const query = params.toString();
+      return this.request(query ? `/api/notifications/page?${query}` : '/api/notifications/page');
+    }
     ,async readNotification(notificationId) {
       return this.request(`/api/notifications/${notificationId}/read`, { method: 'POST' });
     }
+    ,async readAllNotifications(upToId = null) {
+      const query = upToId ? `?upToId=${upToId}` : '';
+      return this.request(`/api/notifications/read-all${query}`, { method: 'POST' });
+    }
     ,async fetchMyChatRooms() {
       return this.request('/chat/rooms');
     }
@@ -290,6 +356,25 @@ window.CommunityApp = {
     }
   },
 
+  // [신규] 이름으로 회원을 조회해서 state.users 에 추가 (이미 받은 회원은 다시 조회하지 않음)
+  async loadUsers(names) {
+    const known = new Set(this.state.users.map(user => user.name));
+    const missing = [...new Set(names)].filter(name => name && !known.has(name));
+    if (missing.length === 0) return this.state.users;
+    try {
+      const usersFromServer = await this.api.fetchUsersByNames(missing);
+      this.state.users.push(...usersFromServer.map(user => ({
+        id: user.id,
+        name: user.name,
+        role: user.role || '사용자',
+        memberStack: user.memberStack || []
+      })));
+    } catch (e) {
+      console.warn("Failed to load users. This might be due to permissions.", e.message);
+    }
+    return this.state.users;
+  },
+
   async initialize() {
     const savedUser = localStorage.getItem('user'); 
     if (savedUser) {
@@ -324,35 +409,30 @@ window.CommunityApp = {
       this.state.categories = [];
     }
 
-    try {
-      const posts = await this.api.fetchPosts();
-      this.state.posts = posts.map(post => ({
-        id: post.postId, 
-        author: post.authorName,
-        createdAt: post.createDate,
-        likes: post.likesCount,
-        isLiked: post.isLiked || false, // isLiked가 없는 경우를 대비하여 기본값 설정
-        ...post // 나머지 서버 응답 속성들을 그대로 복사
-      }));
-    } catch(e) {
-      console.error("Failed to load posts", e);
+    // [성능 개선] 전체 게시글 목록은 필요한 페이지(<body data-post-preload="true">)에서만 미리 받음
+    // 나머지 페이지는 fetchPostFeed 로 화면에 필요한 만큼만 받아서 사용
+    if (document.body.dataset.postPreload === 'true') {
+      try {
+        const posts = await this.api.fetchPosts();
+        this.state.posts = posts.map(post => ({
+          id: post.postId, 
+          author: post.authorName,
+          createdAt: post.createDate,
+          likes: post.likesCount,
+          isLiked: post.isLiked || false, // isLiked가 없는 경우를 대비하여 기본값 설정
+          ...post // 나머지 서버 응답 속성들을 그대로 복사
+        }));
+      } catch(e) {
+        console.error("Failed to load posts", e);
+        this.state.posts = [];
+      }
+    } else {
       this.state.posts = [];
     }
 
-    try {
-      const usersFromServer = await this.api.fetchAllUsers();
-      this.state.users = usersFromServer.map(user => {
-        return {
-          id: user.id,
-          name: user.name,
-          role: user.role || '사용자',
-          memberStack: user.memberStack || []
-        };
-      });
-    } catch (e) {
-      console.warn("Failed to load all users. This might be due to permissions.", e.message);
-      this.state.users = [];
-    }
+    // [수정] 전체 회원 목록을 페이지마다 받지 않음
+    // 각 페이지가 화면에 필요한 회원만 loadUsers(이름 목록)로 받아서 state.users 에 채움
+    this.state.users = [];
 
     this.ui.updateLoginStatus();
     this.ui.updateActiveNav();